@@ -0,0 +1,27 @@
+public class Service {
+	private static long requests = 0;
+
+	public static void main(String[] args) throws InterruptedException {
+		Worker worker = new Worker("worker");
+		for (; ; ) {
+			requests++;
+			int result = worker.handle((int) requests);
+			System.out.println("Request " + requests + " -> " + result);
+			Thread.sleep(1000);
+		}
+	}
+
+	static class Worker {
+		private final String name;
+		private int handled = 0;
+
+		Worker(String name) {
+			this.name = name;
+		}
+
+		int handle(int request) {
+			handled++;
+			return request * 2;
+		}
+	}
+}
@@ -0,0 +1,550 @@
+import java.util.ArrayList;
+import java.util.List;
+
+public class Stress {
+	public static int[] hugeArray = new int[1_000_000];
+	public static List<Object> objects = new ArrayList<>();
+
+	public static void main(String[] args) {
+		for (int i = 0; i < hugeArray.length; i++) {
+			hugeArray[i] = i;
+		}
+		for (int i = 0; i < 100_000; i++) {
+			objects.add(new Fields());
+		}
+		loadClasses();
+		int depth = recurse(500);
+		System.out.println("Reached depth " + depth + " with " + objects.size() + " objects");
+	}
+
+	public static int recurse(int n) {
+		if (n == 0) {
+			return 0;
+		}
+		int result = recurse(n - 1) + 1;
+		return result;
+	}
+
+	public static final int CLASS_COUNT = 500;
+
+	public static void loadClasses() {
+		// by name, so that each class is loaded and prepared one after the other like in a large application
+		for (int i = 0; i < CLASS_COUNT; i++) {
+			try {
+				objects.add(Class.forName("Stress$C" + i).getDeclaredConstructor().newInstance());
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	static class Fields {
+		int f00, f01, f02, f03, f04, f05, f06, f07, f08, f09;
+		long f10, f11, f12, f13, f14, f15, f16, f17, f18, f19;
+		double f20, f21, f22, f23, f24, f25, f26, f27, f28, f29;
+		String f30 = "a", f31 = "b", f32 = "c", f33 = "d", f34 = "e";
+		Object f35, f36, f37, f38, f39;
+	}
+
+	// generated: C<i> extends C<i / 2>, so the hierarchy is wide and several levels deep
+	static class C0 { int x0 = 0; int get0() { return x0; } }
+	static class C1 extends C0 { int x1 = 1; int get1() { return x1; } }
+	static class C2 extends C1 { int x2 = 2; int get2() { return x2; } }
+	static class C3 extends C1 { int x3 = 3; int get3() { return x3; } }
+	static class C4 extends C2 { int x4 = 4; int get4() { return x4; } }
+	static class C5 extends C2 { int x5 = 5; int get5() { return x5; } }
+	static class C6 extends C3 { int x6 = 6; int get6() { return x6; } }
+	static class C7 extends C3 { int x7 = 7; int get7() { return x7; } }
+	static class C8 extends C4 { int x8 = 8; int get8() { return x8; } }
+	static class C9 extends C4 { int x9 = 9; int get9() { return x9; } }
+	static class C10 extends C5 { int x10 = 10; int get10() { return x10; } }
+	static class C11 extends C5 { int x11 = 11; int get11() { return x11; } }
+	static class C12 extends C6 { int x12 = 12; int get12() { return x12; } }
+	static class C13 extends C6 { int x13 = 13; int get13() { return x13; } }
+	static class C14 extends C7 { int x14 = 14; int get14() { return x14; } }
+	static class C15 extends C7 { int x15 = 15; int get15() { return x15; } }
+	static class C16 extends C8 { int x16 = 16; int get16() { return x16; } }
+	static class C17 extends C8 { int x17 = 17; int get17() { return x17; } }
+	static class C18 extends C9 { int x18 = 18; int get18() { return x18; } }
+	static class C19 extends C9 { int x19 = 19; int get19() { return x19; } }
+	static class C20 extends C10 { int x20 = 20; int get20() { return x20; } }
+	static class C21 extends C10 { int x21 = 21; int get21() { return x21; } }
+	static class C22 extends C11 { int x22 = 22; int get22() { return x22; } }
+	static class C23 extends C11 { int x23 = 23; int get23() { return x23; } }
+	static class C24 extends C12 { int x24 = 24; int get24() { return x24; } }
+	static class C25 extends C12 { int x25 = 25; int get25() { return x25; } }
+	static class C26 extends C13 { int x26 = 26; int get26() { return x26; } }
+	static class C27 extends C13 { int x27 = 27; int get27() { return x27; } }
+	static class C28 extends C14 { int x28 = 28; int get28() { return x28; } }
+	static class C29 extends C14 { int x29 = 29; int get29() { return x29; } }
+	static class C30 extends C15 { int x30 = 30; int get30() { return x30; } }
+	static class C31 extends C15 { int x31 = 31; int get31() { return x31; } }
+	static class C32 extends C16 { int x32 = 32; int get32() { return x32; } }
+	static class C33 extends C16 { int x33 = 33; int get33() { return x33; } }
+	static class C34 extends C17 { int x34 = 34; int get34() { return x34; } }
+	static class C35 extends C17 { int x35 = 35; int get35() { return x35; } }
+	static class C36 extends C18 { int x36 = 36; int get36() { return x36; } }
+	static class C37 extends C18 { int x37 = 37; int get37() { return x37; } }
+	static class C38 extends C19 { int x38 = 38; int get38() { return x38; } }
+	static class C39 extends C19 { int x39 = 39; int get39() { return x39; } }
+	static class C40 extends C20 { int x40 = 40; int get40() { return x40; } }
+	static class C41 extends C20 { int x41 = 41; int get41() { return x41; } }
+	static class C42 extends C21 { int x42 = 42; int get42() { return x42; } }
+	static class C43 extends C21 { int x43 = 43; int get43() { return x43; } }
+	static class C44 extends C22 { int x44 = 44; int get44() { return x44; } }
+	static class C45 extends C22 { int x45 = 45; int get45() { return x45; } }
+	static class C46 extends C23 { int x46 = 46; int get46() { return x46; } }
+	static class C47 extends C23 { int x47 = 47; int get47() { return x47; } }
+	static class C48 extends C24 { int x48 = 48; int get48() { return x48; } }
+	static class C49 extends C24 { int x49 = 49; int get49() { return x49; } }
+	static class C50 extends C25 { int x50 = 50; int get50() { return x50; } }
+	static class C51 extends C25 { int x51 = 51; int get51() { return x51; } }
+	static class C52 extends C26 { int x52 = 52; int get52() { return x52; } }
+	static class C53 extends C26 { int x53 = 53; int get53() { return x53; } }
+	static class C54 extends C27 { int x54 = 54; int get54() { return x54; } }
+	static class C55 extends C27 { int x55 = 55; int get55() { return x55; } }
+	static class C56 extends C28 { int x56 = 56; int get56() { return x56; } }
+	static class C57 extends C28 { int x57 = 57; int get57() { return x57; } }
+	static class C58 extends C29 { int x58 = 58; int get58() { return x58; } }
+	static class C59 extends C29 { int x59 = 59; int get59() { return x59; } }
+	static class C60 extends C30 { int x60 = 60; int get60() { return x60; } }
+	static class C61 extends C30 { int x61 = 61; int get61() { return x61; } }
+	static class C62 extends C31 { int x62 = 62; int get62() { return x62; } }
+	static class C63 extends C31 { int x63 = 63; int get63() { return x63; } }
+	static class C64 extends C32 { int x64 = 64; int get64() { return x64; } }
+	static class C65 extends C32 { int x65 = 65; int get65() { return x65; } }
+	static class C66 extends C33 { int x66 = 66; int get66() { return x66; } }
+	static class C67 extends C33 { int x67 = 67; int get67() { return x67; } }
+	static class C68 extends C34 { int x68 = 68; int get68() { return x68; } }
+	static class C69 extends C34 { int x69 = 69; int get69() { return x69; } }
+	static class C70 extends C35 { int x70 = 70; int get70() { return x70; } }
+	static class C71 extends C35 { int x71 = 71; int get71() { return x71; } }
+	static class C72 extends C36 { int x72 = 72; int get72() { return x72; } }
+	static class C73 extends C36 { int x73 = 73; int get73() { return x73; } }
+	static class C74 extends C37 { int x74 = 74; int get74() { return x74; } }
+	static class C75 extends C37 { int x75 = 75; int get75() { return x75; } }
+	static class C76 extends C38 { int x76 = 76; int get76() { return x76; } }
+	static class C77 extends C38 { int x77 = 77; int get77() { return x77; } }
+	static class C78 extends C39 { int x78 = 78; int get78() { return x78; } }
+	static class C79 extends C39 { int x79 = 79; int get79() { return x79; } }
+	static class C80 extends C40 { int x80 = 80; int get80() { return x80; } }
+	static class C81 extends C40 { int x81 = 81; int get81() { return x81; } }
+	static class C82 extends C41 { int x82 = 82; int get82() { return x82; } }
+	static class C83 extends C41 { int x83 = 83; int get83() { return x83; } }
+	static class C84 extends C42 { int x84 = 84; int get84() { return x84; } }
+	static class C85 extends C42 { int x85 = 85; int get85() { return x85; } }
+	static class C86 extends C43 { int x86 = 86; int get86() { return x86; } }
+	static class C87 extends C43 { int x87 = 87; int get87() { return x87; } }
+	static class C88 extends C44 { int x88 = 88; int get88() { return x88; } }
+	static class C89 extends C44 { int x89 = 89; int get89() { return x89; } }
+	static class C90 extends C45 { int x90 = 90; int get90() { return x90; } }
+	static class C91 extends C45 { int x91 = 91; int get91() { return x91; } }
+	static class C92 extends C46 { int x92 = 92; int get92() { return x92; } }
+	static class C93 extends C46 { int x93 = 93; int get93() { return x93; } }
+	static class C94 extends C47 { int x94 = 94; int get94() { return x94; } }
+	static class C95 extends C47 { int x95 = 95; int get95() { return x95; } }
+	static class C96 extends C48 { int x96 = 96; int get96() { return x96; } }
+	static class C97 extends C48 { int x97 = 97; int get97() { return x97; } }
+	static class C98 extends C49 { int x98 = 98; int get98() { return x98; } }
+	static class C99 extends C49 { int x99 = 99; int get99() { return x99; } }
+	static class C100 extends C50 { int x100 = 100; int get100() { return x100; } }
+	static class C101 extends C50 { int x101 = 101; int get101() { return x101; } }
+	static class C102 extends C51 { int x102 = 102; int get102() { return x102; } }
+	static class C103 extends C51 { int x103 = 103; int get103() { return x103; } }
+	static class C104 extends C52 { int x104 = 104; int get104() { return x104; } }
+	static class C105 extends C52 { int x105 = 105; int get105() { return x105; } }
+	static class C106 extends C53 { int x106 = 106; int get106() { return x106; } }
+	static class C107 extends C53 { int x107 = 107; int get107() { return x107; } }
+	static class C108 extends C54 { int x108 = 108; int get108() { return x108; } }
+	static class C109 extends C54 { int x109 = 109; int get109() { return x109; } }
+	static class C110 extends C55 { int x110 = 110; int get110() { return x110; } }
+	static class C111 extends C55 { int x111 = 111; int get111() { return x111; } }
+	static class C112 extends C56 { int x112 = 112; int get112() { return x112; } }
+	static class C113 extends C56 { int x113 = 113; int get113() { return x113; } }
+	static class C114 extends C57 { int x114 = 114; int get114() { return x114; } }
+	static class C115 extends C57 { int x115 = 115; int get115() { return x115; } }
+	static class C116 extends C58 { int x116 = 116; int get116() { return x116; } }
+	static class C117 extends C58 { int x117 = 117; int get117() { return x117; } }
+	static class C118 extends C59 { int x118 = 118; int get118() { return x118; } }
+	static class C119 extends C59 { int x119 = 119; int get119() { return x119; } }
+	static class C120 extends C60 { int x120 = 120; int get120() { return x120; } }
+	static class C121 extends C60 { int x121 = 121; int get121() { return x121; } }
+	static class C122 extends C61 { int x122 = 122; int get122() { return x122; } }
+	static class C123 extends C61 { int x123 = 123; int get123() { return x123; } }
+	static class C124 extends C62 { int x124 = 124; int get124() { return x124; } }
+	static class C125 extends C62 { int x125 = 125; int get125() { return x125; } }
+	static class C126 extends C63 { int x126 = 126; int get126() { return x126; } }
+	static class C127 extends C63 { int x127 = 127; int get127() { return x127; } }
+	static class C128 extends C64 { int x128 = 128; int get128() { return x128; } }
+	static class C129 extends C64 { int x129 = 129; int get129() { return x129; } }
+	static class C130 extends C65 { int x130 = 130; int get130() { return x130; } }
+	static class C131 extends C65 { int x131 = 131; int get131() { return x131; } }
+	static class C132 extends C66 { int x132 = 132; int get132() { return x132; } }
+	static class C133 extends C66 { int x133 = 133; int get133() { return x133; } }
+	static class C134 extends C67 { int x134 = 134; int get134() { return x134; } }
+	static class C135 extends C67 { int x135 = 135; int get135() { return x135; } }
+	static class C136 extends C68 { int x136 = 136; int get136() { return x136; } }
+	static class C137 extends C68 { int x137 = 137; int get137() { return x137; } }
+	static class C138 extends C69 { int x138 = 138; int get138() { return x138; } }
+	static class C139 extends C69 { int x139 = 139; int get139() { return x139; } }
+	static class C140 extends C70 { int x140 = 140; int get140() { return x140; } }
+	static class C141 extends C70 { int x141 = 141; int get141() { return x141; } }
+	static class C142 extends C71 { int x142 = 142; int get142() { return x142; } }
+	static class C143 extends C71 { int x143 = 143; int get143() { return x143; } }
+	static class C144 extends C72 { int x144 = 144; int get144() { return x144; } }
+	static class C145 extends C72 { int x145 = 145; int get145() { return x145; } }
+	static class C146 extends C73 { int x146 = 146; int get146() { return x146; } }
+	static class C147 extends C73 { int x147 = 147; int get147() { return x147; } }
+	static class C148 extends C74 { int x148 = 148; int get148() { return x148; } }
+	static class C149 extends C74 { int x149 = 149; int get149() { return x149; } }
+	static class C150 extends C75 { int x150 = 150; int get150() { return x150; } }
+	static class C151 extends C75 { int x151 = 151; int get151() { return x151; } }
+	static class C152 extends C76 { int x152 = 152; int get152() { return x152; } }
+	static class C153 extends C76 { int x153 = 153; int get153() { return x153; } }
+	static class C154 extends C77 { int x154 = 154; int get154() { return x154; } }
+	static class C155 extends C77 { int x155 = 155; int get155() { return x155; } }
+	static class C156 extends C78 { int x156 = 156; int get156() { return x156; } }
+	static class C157 extends C78 { int x157 = 157; int get157() { return x157; } }
+	static class C158 extends C79 { int x158 = 158; int get158() { return x158; } }
+	static class C159 extends C79 { int x159 = 159; int get159() { return x159; } }
+	static class C160 extends C80 { int x160 = 160; int get160() { return x160; } }
+	static class C161 extends C80 { int x161 = 161; int get161() { return x161; } }
+	static class C162 extends C81 { int x162 = 162; int get162() { return x162; } }
+	static class C163 extends C81 { int x163 = 163; int get163() { return x163; } }
+	static class C164 extends C82 { int x164 = 164; int get164() { return x164; } }
+	static class C165 extends C82 { int x165 = 165; int get165() { return x165; } }
+	static class C166 extends C83 { int x166 = 166; int get166() { return x166; } }
+	static class C167 extends C83 { int x167 = 167; int get167() { return x167; } }
+	static class C168 extends C84 { int x168 = 168; int get168() { return x168; } }
+	static class C169 extends C84 { int x169 = 169; int get169() { return x169; } }
+	static class C170 extends C85 { int x170 = 170; int get170() { return x170; } }
+	static class C171 extends C85 { int x171 = 171; int get171() { return x171; } }
+	static class C172 extends C86 { int x172 = 172; int get172() { return x172; } }
+	static class C173 extends C86 { int x173 = 173; int get173() { return x173; } }
+	static class C174 extends C87 { int x174 = 174; int get174() { return x174; } }
+	static class C175 extends C87 { int x175 = 175; int get175() { return x175; } }
+	static class C176 extends C88 { int x176 = 176; int get176() { return x176; } }
+	static class C177 extends C88 { int x177 = 177; int get177() { return x177; } }
+	static class C178 extends C89 { int x178 = 178; int get178() { return x178; } }
+	static class C179 extends C89 { int x179 = 179; int get179() { return x179; } }
+	static class C180 extends C90 { int x180 = 180; int get180() { return x180; } }
+	static class C181 extends C90 { int x181 = 181; int get181() { return x181; } }
+	static class C182 extends C91 { int x182 = 182; int get182() { return x182; } }
+	static class C183 extends C91 { int x183 = 183; int get183() { return x183; } }
+	static class C184 extends C92 { int x184 = 184; int get184() { return x184; } }
+	static class C185 extends C92 { int x185 = 185; int get185() { return x185; } }
+	static class C186 extends C93 { int x186 = 186; int get186() { return x186; } }
+	static class C187 extends C93 { int x187 = 187; int get187() { return x187; } }
+	static class C188 extends C94 { int x188 = 188; int get188() { return x188; } }
+	static class C189 extends C94 { int x189 = 189; int get189() { return x189; } }
+	static class C190 extends C95 { int x190 = 190; int get190() { return x190; } }
+	static class C191 extends C95 { int x191 = 191; int get191() { return x191; } }
+	static class C192 extends C96 { int x192 = 192; int get192() { return x192; } }
+	static class C193 extends C96 { int x193 = 193; int get193() { return x193; } }
+	static class C194 extends C97 { int x194 = 194; int get194() { return x194; } }
+	static class C195 extends C97 { int x195 = 195; int get195() { return x195; } }
+	static class C196 extends C98 { int x196 = 196; int get196() { return x196; } }
+	static class C197 extends C98 { int x197 = 197; int get197() { return x197; } }
+	static class C198 extends C99 { int x198 = 198; int get198() { return x198; } }
+	static class C199 extends C99 { int x199 = 199; int get199() { return x199; } }
+	static class C200 extends C100 { int x200 = 200; int get200() { return x200; } }
+	static class C201 extends C100 { int x201 = 201; int get201() { return x201; } }
+	static class C202 extends C101 { int x202 = 202; int get202() { return x202; } }
+	static class C203 extends C101 { int x203 = 203; int get203() { return x203; } }
+	static class C204 extends C102 { int x204 = 204; int get204() { return x204; } }
+	static class C205 extends C102 { int x205 = 205; int get205() { return x205; } }
+	static class C206 extends C103 { int x206 = 206; int get206() { return x206; } }
+	static class C207 extends C103 { int x207 = 207; int get207() { return x207; } }
+	static class C208 extends C104 { int x208 = 208; int get208() { return x208; } }
+	static class C209 extends C104 { int x209 = 209; int get209() { return x209; } }
+	static class C210 extends C105 { int x210 = 210; int get210() { return x210; } }
+	static class C211 extends C105 { int x211 = 211; int get211() { return x211; } }
+	static class C212 extends C106 { int x212 = 212; int get212() { return x212; } }
+	static class C213 extends C106 { int x213 = 213; int get213() { return x213; } }
+	static class C214 extends C107 { int x214 = 214; int get214() { return x214; } }
+	static class C215 extends C107 { int x215 = 215; int get215() { return x215; } }
+	static class C216 extends C108 { int x216 = 216; int get216() { return x216; } }
+	static class C217 extends C108 { int x217 = 217; int get217() { return x217; } }
+	static class C218 extends C109 { int x218 = 218; int get218() { return x218; } }
+	static class C219 extends C109 { int x219 = 219; int get219() { return x219; } }
+	static class C220 extends C110 { int x220 = 220; int get220() { return x220; } }
+	static class C221 extends C110 { int x221 = 221; int get221() { return x221; } }
+	static class C222 extends C111 { int x222 = 222; int get222() { return x222; } }
+	static class C223 extends C111 { int x223 = 223; int get223() { return x223; } }
+	static class C224 extends C112 { int x224 = 224; int get224() { return x224; } }
+	static class C225 extends C112 { int x225 = 225; int get225() { return x225; } }
+	static class C226 extends C113 { int x226 = 226; int get226() { return x226; } }
+	static class C227 extends C113 { int x227 = 227; int get227() { return x227; } }
+	static class C228 extends C114 { int x228 = 228; int get228() { return x228; } }
+	static class C229 extends C114 { int x229 = 229; int get229() { return x229; } }
+	static class C230 extends C115 { int x230 = 230; int get230() { return x230; } }
+	static class C231 extends C115 { int x231 = 231; int get231() { return x231; } }
+	static class C232 extends C116 { int x232 = 232; int get232() { return x232; } }
+	static class C233 extends C116 { int x233 = 233; int get233() { return x233; } }
+	static class C234 extends C117 { int x234 = 234; int get234() { return x234; } }
+	static class C235 extends C117 { int x235 = 235; int get235() { return x235; } }
+	static class C236 extends C118 { int x236 = 236; int get236() { return x236; } }
+	static class C237 extends C118 { int x237 = 237; int get237() { return x237; } }
+	static class C238 extends C119 { int x238 = 238; int get238() { return x238; } }
+	static class C239 extends C119 { int x239 = 239; int get239() { return x239; } }
+	static class C240 extends C120 { int x240 = 240; int get240() { return x240; } }
+	static class C241 extends C120 { int x241 = 241; int get241() { return x241; } }
+	static class C242 extends C121 { int x242 = 242; int get242() { return x242; } }
+	static class C243 extends C121 { int x243 = 243; int get243() { return x243; } }
+	static class C244 extends C122 { int x244 = 244; int get244() { return x244; } }
+	static class C245 extends C122 { int x245 = 245; int get245() { return x245; } }
+	static class C246 extends C123 { int x246 = 246; int get246() { return x246; } }
+	static class C247 extends C123 { int x247 = 247; int get247() { return x247; } }
+	static class C248 extends C124 { int x248 = 248; int get248() { return x248; } }
+	static class C249 extends C124 { int x249 = 249; int get249() { return x249; } }
+	static class C250 extends C125 { int x250 = 250; int get250() { return x250; } }
+	static class C251 extends C125 { int x251 = 251; int get251() { return x251; } }
+	static class C252 extends C126 { int x252 = 252; int get252() { return x252; } }
+	static class C253 extends C126 { int x253 = 253; int get253() { return x253; } }
+	static class C254 extends C127 { int x254 = 254; int get254() { return x254; } }
+	static class C255 extends C127 { int x255 = 255; int get255() { return x255; } }
+	static class C256 extends C128 { int x256 = 256; int get256() { return x256; } }
+	static class C257 extends C128 { int x257 = 257; int get257() { return x257; } }
+	static class C258 extends C129 { int x258 = 258; int get258() { return x258; } }
+	static class C259 extends C129 { int x259 = 259; int get259() { return x259; } }
+	static class C260 extends C130 { int x260 = 260; int get260() { return x260; } }
+	static class C261 extends C130 { int x261 = 261; int get261() { return x261; } }
+	static class C262 extends C131 { int x262 = 262; int get262() { return x262; } }
+	static class C263 extends C131 { int x263 = 263; int get263() { return x263; } }
+	static class C264 extends C132 { int x264 = 264; int get264() { return x264; } }
+	static class C265 extends C132 { int x265 = 265; int get265() { return x265; } }
+	static class C266 extends C133 { int x266 = 266; int get266() { return x266; } }
+	static class C267 extends C133 { int x267 = 267; int get267() { return x267; } }
+	static class C268 extends C134 { int x268 = 268; int get268() { return x268; } }
+	static class C269 extends C134 { int x269 = 269; int get269() { return x269; } }
+	static class C270 extends C135 { int x270 = 270; int get270() { return x270; } }
+	static class C271 extends C135 { int x271 = 271; int get271() { return x271; } }
+	static class C272 extends C136 { int x272 = 272; int get272() { return x272; } }
+	static class C273 extends C136 { int x273 = 273; int get273() { return x273; } }
+	static class C274 extends C137 { int x274 = 274; int get274() { return x274; } }
+	static class C275 extends C137 { int x275 = 275; int get275() { return x275; } }
+	static class C276 extends C138 { int x276 = 276; int get276() { return x276; } }
+	static class C277 extends C138 { int x277 = 277; int get277() { return x277; } }
+	static class C278 extends C139 { int x278 = 278; int get278() { return x278; } }
+	static class C279 extends C139 { int x279 = 279; int get279() { return x279; } }
+	static class C280 extends C140 { int x280 = 280; int get280() { return x280; } }
+	static class C281 extends C140 { int x281 = 281; int get281() { return x281; } }
+	static class C282 extends C141 { int x282 = 282; int get282() { return x282; } }
+	static class C283 extends C141 { int x283 = 283; int get283() { return x283; } }
+	static class C284 extends C142 { int x284 = 284; int get284() { return x284; } }
+	static class C285 extends C142 { int x285 = 285; int get285() { return x285; } }
+	static class C286 extends C143 { int x286 = 286; int get286() { return x286; } }
+	static class C287 extends C143 { int x287 = 287; int get287() { return x287; } }
+	static class C288 extends C144 { int x288 = 288; int get288() { return x288; } }
+	static class C289 extends C144 { int x289 = 289; int get289() { return x289; } }
+	static class C290 extends C145 { int x290 = 290; int get290() { return x290; } }
+	static class C291 extends C145 { int x291 = 291; int get291() { return x291; } }
+	static class C292 extends C146 { int x292 = 292; int get292() { return x292; } }
+	static class C293 extends C146 { int x293 = 293; int get293() { return x293; } }
+	static class C294 extends C147 { int x294 = 294; int get294() { return x294; } }
+	static class C295 extends C147 { int x295 = 295; int get295() { return x295; } }
+	static class C296 extends C148 { int x296 = 296; int get296() { return x296; } }
+	static class C297 extends C148 { int x297 = 297; int get297() { return x297; } }
+	static class C298 extends C149 { int x298 = 298; int get298() { return x298; } }
+	static class C299 extends C149 { int x299 = 299; int get299() { return x299; } }
+	static class C300 extends C150 { int x300 = 300; int get300() { return x300; } }
+	static class C301 extends C150 { int x301 = 301; int get301() { return x301; } }
+	static class C302 extends C151 { int x302 = 302; int get302() { return x302; } }
+	static class C303 extends C151 { int x303 = 303; int get303() { return x303; } }
+	static class C304 extends C152 { int x304 = 304; int get304() { return x304; } }
+	static class C305 extends C152 { int x305 = 305; int get305() { return x305; } }
+	static class C306 extends C153 { int x306 = 306; int get306() { return x306; } }
+	static class C307 extends C153 { int x307 = 307; int get307() { return x307; } }
+	static class C308 extends C154 { int x308 = 308; int get308() { return x308; } }
+	static class C309 extends C154 { int x309 = 309; int get309() { return x309; } }
+	static class C310 extends C155 { int x310 = 310; int get310() { return x310; } }
+	static class C311 extends C155 { int x311 = 311; int get311() { return x311; } }
+	static class C312 extends C156 { int x312 = 312; int get312() { return x312; } }
+	static class C313 extends C156 { int x313 = 313; int get313() { return x313; } }
+	static class C314 extends C157 { int x314 = 314; int get314() { return x314; } }
+	static class C315 extends C157 { int x315 = 315; int get315() { return x315; } }
+	static class C316 extends C158 { int x316 = 316; int get316() { return x316; } }
+	static class C317 extends C158 { int x317 = 317; int get317() { return x317; } }
+	static class C318 extends C159 { int x318 = 318; int get318() { return x318; } }
+	static class C319 extends C159 { int x319 = 319; int get319() { return x319; } }
+	static class C320 extends C160 { int x320 = 320; int get320() { return x320; } }
+	static class C321 extends C160 { int x321 = 321; int get321() { return x321; } }
+	static class C322 extends C161 { int x322 = 322; int get322() { return x322; } }
+	static class C323 extends C161 { int x323 = 323; int get323() { return x323; } }
+	static class C324 extends C162 { int x324 = 324; int get324() { return x324; } }
+	static class C325 extends C162 { int x325 = 325; int get325() { return x325; } }
+	static class C326 extends C163 { int x326 = 326; int get326() { return x326; } }
+	static class C327 extends C163 { int x327 = 327; int get327() { return x327; } }
+	static class C328 extends C164 { int x328 = 328; int get328() { return x328; } }
+	static class C329 extends C164 { int x329 = 329; int get329() { return x329; } }
+	static class C330 extends C165 { int x330 = 330; int get330() { return x330; } }
+	static class C331 extends C165 { int x331 = 331; int get331() { return x331; } }
+	static class C332 extends C166 { int x332 = 332; int get332() { return x332; } }
+	static class C333 extends C166 { int x333 = 333; int get333() { return x333; } }
+	static class C334 extends C167 { int x334 = 334; int get334() { return x334; } }
+	static class C335 extends C167 { int x335 = 335; int get335() { return x335; } }
+	static class C336 extends C168 { int x336 = 336; int get336() { return x336; } }
+	static class C337 extends C168 { int x337 = 337; int get337() { return x337; } }
+	static class C338 extends C169 { int x338 = 338; int get338() { return x338; } }
+	static class C339 extends C169 { int x339 = 339; int get339() { return x339; } }
+	static class C340 extends C170 { int x340 = 340; int get340() { return x340; } }
+	static class C341 extends C170 { int x341 = 341; int get341() { return x341; } }
+	static class C342 extends C171 { int x342 = 342; int get342() { return x342; } }
+	static class C343 extends C171 { int x343 = 343; int get343() { return x343; } }
+	static class C344 extends C172 { int x344 = 344; int get344() { return x344; } }
+	static class C345 extends C172 { int x345 = 345; int get345() { return x345; } }
+	static class C346 extends C173 { int x346 = 346; int get346() { return x346; } }
+	static class C347 extends C173 { int x347 = 347; int get347() { return x347; } }
+	static class C348 extends C174 { int x348 = 348; int get348() { return x348; } }
+	static class C349 extends C174 { int x349 = 349; int get349() { return x349; } }
+	static class C350 extends C175 { int x350 = 350; int get350() { return x350; } }
+	static class C351 extends C175 { int x351 = 351; int get351() { return x351; } }
+	static class C352 extends C176 { int x352 = 352; int get352() { return x352; } }
+	static class C353 extends C176 { int x353 = 353; int get353() { return x353; } }
+	static class C354 extends C177 { int x354 = 354; int get354() { return x354; } }
+	static class C355 extends C177 { int x355 = 355; int get355() { return x355; } }
+	static class C356 extends C178 { int x356 = 356; int get356() { return x356; } }
+	static class C357 extends C178 { int x357 = 357; int get357() { return x357; } }
+	static class C358 extends C179 { int x358 = 358; int get358() { return x358; } }
+	static class C359 extends C179 { int x359 = 359; int get359() { return x359; } }
+	static class C360 extends C180 { int x360 = 360; int get360() { return x360; } }
+	static class C361 extends C180 { int x361 = 361; int get361() { return x361; } }
+	static class C362 extends C181 { int x362 = 362; int get362() { return x362; } }
+	static class C363 extends C181 { int x363 = 363; int get363() { return x363; } }
+	static class C364 extends C182 { int x364 = 364; int get364() { return x364; } }
+	static class C365 extends C182 { int x365 = 365; int get365() { return x365; } }
+	static class C366 extends C183 { int x366 = 366; int get366() { return x366; } }
+	static class C367 extends C183 { int x367 = 367; int get367() { return x367; } }
+	static class C368 extends C184 { int x368 = 368; int get368() { return x368; } }
+	static class C369 extends C184 { int x369 = 369; int get369() { return x369; } }
+	static class C370 extends C185 { int x370 = 370; int get370() { return x370; } }
+	static class C371 extends C185 { int x371 = 371; int get371() { return x371; } }
+	static class C372 extends C186 { int x372 = 372; int get372() { return x372; } }
+	static class C373 extends C186 { int x373 = 373; int get373() { return x373; } }
+	static class C374 extends C187 { int x374 = 374; int get374() { return x374; } }
+	static class C375 extends C187 { int x375 = 375; int get375() { return x375; } }
+	static class C376 extends C188 { int x376 = 376; int get376() { return x376; } }
+	static class C377 extends C188 { int x377 = 377; int get377() { return x377; } }
+	static class C378 extends C189 { int x378 = 378; int get378() { return x378; } }
+	static class C379 extends C189 { int x379 = 379; int get379() { return x379; } }
+	static class C380 extends C190 { int x380 = 380; int get380() { return x380; } }
+	static class C381 extends C190 { int x381 = 381; int get381() { return x381; } }
+	static class C382 extends C191 { int x382 = 382; int get382() { return x382; } }
+	static class C383 extends C191 { int x383 = 383; int get383() { return x383; } }
+	static class C384 extends C192 { int x384 = 384; int get384() { return x384; } }
+	static class C385 extends C192 { int x385 = 385; int get385() { return x385; } }
+	static class C386 extends C193 { int x386 = 386; int get386() { return x386; } }
+	static class C387 extends C193 { int x387 = 387; int get387() { return x387; } }
+	static class C388 extends C194 { int x388 = 388; int get388() { return x388; } }
+	static class C389 extends C194 { int x389 = 389; int get389() { return x389; } }
+	static class C390 extends C195 { int x390 = 390; int get390() { return x390; } }
+	static class C391 extends C195 { int x391 = 391; int get391() { return x391; } }
+	static class C392 extends C196 { int x392 = 392; int get392() { return x392; } }
+	static class C393 extends C196 { int x393 = 393; int get393() { return x393; } }
+	static class C394 extends C197 { int x394 = 394; int get394() { return x394; } }
+	static class C395 extends C197 { int x395 = 395; int get395() { return x395; } }
+	static class C396 extends C198 { int x396 = 396; int get396() { return x396; } }
+	static class C397 extends C198 { int x397 = 397; int get397() { return x397; } }
+	static class C398 extends C199 { int x398 = 398; int get398() { return x398; } }
+	static class C399 extends C199 { int x399 = 399; int get399() { return x399; } }
+	static class C400 extends C200 { int x400 = 400; int get400() { return x400; } }
+	static class C401 extends C200 { int x401 = 401; int get401() { return x401; } }
+	static class C402 extends C201 { int x402 = 402; int get402() { return x402; } }
+	static class C403 extends C201 { int x403 = 403; int get403() { return x403; } }
+	static class C404 extends C202 { int x404 = 404; int get404() { return x404; } }
+	static class C405 extends C202 { int x405 = 405; int get405() { return x405; } }
+	static class C406 extends C203 { int x406 = 406; int get406() { return x406; } }
+	static class C407 extends C203 { int x407 = 407; int get407() { return x407; } }
+	static class C408 extends C204 { int x408 = 408; int get408() { return x408; } }
+	static class C409 extends C204 { int x409 = 409; int get409() { return x409; } }
+	static class C410 extends C205 { int x410 = 410; int get410() { return x410; } }
+	static class C411 extends C205 { int x411 = 411; int get411() { return x411; } }
+	static class C412 extends C206 { int x412 = 412; int get412() { return x412; } }
+	static class C413 extends C206 { int x413 = 413; int get413() { return x413; } }
+	static class C414 extends C207 { int x414 = 414; int get414() { return x414; } }
+	static class C415 extends C207 { int x415 = 415; int get415() { return x415; } }
+	static class C416 extends C208 { int x416 = 416; int get416() { return x416; } }
+	static class C417 extends C208 { int x417 = 417; int get417() { return x417; } }
+	static class C418 extends C209 { int x418 = 418; int get418() { return x418; } }
+	static class C419 extends C209 { int x419 = 419; int get419() { return x419; } }
+	static class C420 extends C210 { int x420 = 420; int get420() { return x420; } }
+	static class C421 extends C210 { int x421 = 421; int get421() { return x421; } }
+	static class C422 extends C211 { int x422 = 422; int get422() { return x422; } }
+	static class C423 extends C211 { int x423 = 423; int get423() { return x423; } }
+	static class C424 extends C212 { int x424 = 424; int get424() { return x424; } }
+	static class C425 extends C212 { int x425 = 425; int get425() { return x425; } }
+	static class C426 extends C213 { int x426 = 426; int get426() { return x426; } }
+	static class C427 extends C213 { int x427 = 427; int get427() { return x427; } }
+	static class C428 extends C214 { int x428 = 428; int get428() { return x428; } }
+	static class C429 extends C214 { int x429 = 429; int get429() { return x429; } }
+	static class C430 extends C215 { int x430 = 430; int get430() { return x430; } }
+	static class C431 extends C215 { int x431 = 431; int get431() { return x431; } }
+	static class C432 extends C216 { int x432 = 432; int get432() { return x432; } }
+	static class C433 extends C216 { int x433 = 433; int get433() { return x433; } }
+	static class C434 extends C217 { int x434 = 434; int get434() { return x434; } }
+	static class C435 extends C217 { int x435 = 435; int get435() { return x435; } }
+	static class C436 extends C218 { int x436 = 436; int get436() { return x436; } }
+	static class C437 extends C218 { int x437 = 437; int get437() { return x437; } }
+	static class C438 extends C219 { int x438 = 438; int get438() { return x438; } }
+	static class C439 extends C219 { int x439 = 439; int get439() { return x439; } }
+	static class C440 extends C220 { int x440 = 440; int get440() { return x440; } }
+	static class C441 extends C220 { int x441 = 441; int get441() { return x441; } }
+	static class C442 extends C221 { int x442 = 442; int get442() { return x442; } }
+	static class C443 extends C221 { int x443 = 443; int get443() { return x443; } }
+	static class C444 extends C222 { int x444 = 444; int get444() { return x444; } }
+	static class C445 extends C222 { int x445 = 445; int get445() { return x445; } }
+	static class C446 extends C223 { int x446 = 446; int get446() { return x446; } }
+	static class C447 extends C223 { int x447 = 447; int get447() { return x447; } }
+	static class C448 extends C224 { int x448 = 448; int get448() { return x448; } }
+	static class C449 extends C224 { int x449 = 449; int get449() { return x449; } }
+	static class C450 extends C225 { int x450 = 450; int get450() { return x450; } }
+	static class C451 extends C225 { int x451 = 451; int get451() { return x451; } }
+	static class C452 extends C226 { int x452 = 452; int get452() { return x452; } }
+	static class C453 extends C226 { int x453 = 453; int get453() { return x453; } }
+	static class C454 extends C227 { int x454 = 454; int get454() { return x454; } }
+	static class C455 extends C227 { int x455 = 455; int get455() { return x455; } }
+	static class C456 extends C228 { int x456 = 456; int get456() { return x456; } }
+	static class C457 extends C228 { int x457 = 457; int get457() { return x457; } }
+	static class C458 extends C229 { int x458 = 458; int get458() { return x458; } }
+	static class C459 extends C229 { int x459 = 459; int get459() { return x459; } }
+	static class C460 extends C230 { int x460 = 460; int get460() { return x460; } }
+	static class C461 extends C230 { int x461 = 461; int get461() { return x461; } }
+	static class C462 extends C231 { int x462 = 462; int get462() { return x462; } }
+	static class C463 extends C231 { int x463 = 463; int get463() { return x463; } }
+	static class C464 extends C232 { int x464 = 464; int get464() { return x464; } }
+	static class C465 extends C232 { int x465 = 465; int get465() { return x465; } }
+	static class C466 extends C233 { int x466 = 466; int get466() { return x466; } }
+	static class C467 extends C233 { int x467 = 467; int get467() { return x467; } }
+	static class C468 extends C234 { int x468 = 468; int get468() { return x468; } }
+	static class C469 extends C234 { int x469 = 469; int get469() { return x469; } }
+	static class C470 extends C235 { int x470 = 470; int get470() { return x470; } }
+	static class C471 extends C235 { int x471 = 471; int get471() { return x471; } }
+	static class C472 extends C236 { int x472 = 472; int get472() { return x472; } }
+	static class C473 extends C236 { int x473 = 473; int get473() { return x473; } }
+	static class C474 extends C237 { int x474 = 474; int get474() { return x474; } }
+	static class C475 extends C237 { int x475 = 475; int get475() { return x475; } }
+	static class C476 extends C238 { int x476 = 476; int get476() { return x476; } }
+	static class C477 extends C238 { int x477 = 477; int get477() { return x477; } }
+	static class C478 extends C239 { int x478 = 478; int get478() { return x478; } }
+	static class C479 extends C239 { int x479 = 479; int get479() { return x479; } }
+	static class C480 extends C240 { int x480 = 480; int get480() { return x480; } }
+	static class C481 extends C240 { int x481 = 481; int get481() { return x481; } }
+	static class C482 extends C241 { int x482 = 482; int get482() { return x482; } }
+	static class C483 extends C241 { int x483 = 483; int get483() { return x483; } }
+	static class C484 extends C242 { int x484 = 484; int get484() { return x484; } }
+	static class C485 extends C242 { int x485 = 485; int get485() { return x485; } }
+	static class C486 extends C243 { int x486 = 486; int get486() { return x486; } }
+	static class C487 extends C243 { int x487 = 487; int get487() { return x487; } }
+	static class C488 extends C244 { int x488 = 488; int get488() { return x488; } }
+	static class C489 extends C244 { int x489 = 489; int get489() { return x489; } }
+	static class C490 extends C245 { int x490 = 490; int get490() { return x490; } }
+	static class C491 extends C245 { int x491 = 491; int get491() { return x491; } }
+	static class C492 extends C246 { int x492 = 492; int get492() { return x492; } }
+	static class C493 extends C246 { int x493 = 493; int get493() { return x493; } }
+	static class C494 extends C247 { int x494 = 494; int get494() { return x494; } }
+	static class C495 extends C247 { int x495 = 495; int get495() { return x495; } }
+	static class C496 extends C248 { int x496 = 496; int get496() { return x496; } }
+	static class C497 extends C248 { int x497 = 497; int get497() { return x497; } }
+	static class C498 extends C249 { int x498 = 498; int get498() { return x498; } }
+	static class C499 extends C249 { int x499 = 499; int get499() { return x499; } }
+}
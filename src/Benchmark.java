@@ -0,0 +1,93 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Drives the debugger against the fixture programs and prints the statistics collected by the 'stats' command.
+ * All other output of the debugger and the debuggee is discarded, so printing does not dominate the measurements.
+ */
+public class Benchmark {
+
+	private static final PrintStream OUT = System.out;
+	private static final PrintStream DISCARD = new PrintStream(OutputStream.nullOutputStream());
+
+	private static class Fixture {
+		final String program;
+		final int breakpoint;
+		final int otherLine;
+		final int steps;
+		final List<String> inspections;
+
+		Fixture(String program, int breakpoint, int otherLine, int steps, List<String> inspections) {
+			this.program = program;
+			this.breakpoint = breakpoint;
+			this.otherLine = otherLine;
+			this.steps = steps;
+			this.inspections = inspections;
+		}
+	}
+
+	private static final List<Fixture> FIXTURES = List.of(
+			new Fixture("Test", 35, 26, 8, List.of("locals", "globals", "print globalArr 1", "stack")),
+			new Fixture("Classes", 13, 38, 3, List.of("locals", "globals", "print animals", "printf dog sound", "stack")),
+			new Fixture("Stress", 22, 12, 50, List.of("locals", "print hugeArray 999999", "stack"))
+	);
+
+	public static void main(String[] args) throws Exception {
+		if (args.length > 0 && (args[0].equals("-h") || args[0].equals("--help"))) {
+			System.out.println("Usage:\njava Benchmark [iterations] [fixture...]");
+			System.out.println("    fixtures: Test, Classes, Stress (default: all)");
+			return;
+		}
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		for (Fixture fixture : FIXTURES) {
+			if (args.length > 1 && !List.of(args).subList(1, args.length).contains(fixture.program)) {
+				continue;
+			}
+			run(fixture, iterations);
+		}
+	}
+
+	private static void run(Fixture fixture, int iterations) throws Exception {
+		OUT.printf("=== %s (%d iterations) ===\n", fixture.program, iterations);
+		if (Util.compileProgram(fixture.program) != 0) {
+			OUT.println("Error compiling " + fixture.program + ".");
+			return;
+		}
+		System.setOut(DISCARD);
+		try {
+			BlockingQueue<Response> responseQueue = new ArrayBlockingQueue<>(1);
+			Debugger debugger = new Debugger(fixture.program, Connection.LAUNCH, null, responseQueue);
+			send(debugger, responseQueue, "break " + fixture.breakpoint);
+			if (send(debugger, responseQueue, "run") == Response.QUIT) {
+				OUT.println("Program terminated before reaching line " + fixture.breakpoint + ".");
+				return;
+			}
+			for (int i = 0; i < iterations; i++) {
+				for (String cmd : fixture.inspections) {
+					send(debugger, responseQueue, cmd);
+				}
+				// the classes are loaded by now, so this measures installing into and removing from loaded classes
+				send(debugger, responseQueue, "break " + fixture.otherLine);
+				send(debugger, responseQueue, "rmbreak " + fixture.otherLine);
+			}
+			// the number of steps is chosen per fixture, so that the program does not terminate before the stats are printed
+			for (int i = 0; i < fixture.steps; i++) {
+				send(debugger, responseQueue, "step");
+			}
+			System.setOut(OUT);
+			send(debugger, responseQueue, "stats");
+			System.setOut(DISCARD);
+			send(debugger, responseQueue, "q");
+		} finally {
+			System.setOut(OUT);
+		}
+	}
+
+	private static Response send(Debugger debugger, BlockingQueue<Response> responseQueue, String cmd) throws Exception {
+		debugger.sendCommand(cmd);
+		return responseQueue.take();
+	}
+}
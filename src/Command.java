@@ -13,6 +13,18 @@ public enum Command {
 	PRINT_VALUE("print"),
 	PRINT_FIELD("printf"),
 	STATE("state"),
+	RELOAD("reload"),
+	THREADS("threads"),
+	SELECT_THREAD("thread"),
+	COVERAGE("coverage"),
+	RECORD("record"),
+	HISTORY("history"),
+	BACK("back"),
+	PRINT_RECORDED("print@"),
+	HEAP("heap"),
+	INSTANCES("instances"),
+	REFERRERS("referrers"),
+	STATS("stats"),
 	HELP("help"),
 	UNKNOWN("");
 
@@ -0,0 +1,32 @@
+public enum Connection {
+	LAUNCH("", "com.sun.jdi.CommandLineLaunch"),
+	ATTACH("--attach", "com.sun.jdi.SocketAttach"),
+	PID("--pid", "com.sun.jdi.ProcessAttach"),
+	LISTEN("--listen", "com.sun.jdi.SocketListen"),
+	UNKNOWN("", "");
+
+	private final String option;
+	private final String connectorName;
+
+	Connection(String option, String connectorName) {
+		this.option = option;
+		this.connectorName = connectorName;
+	}
+
+	public String getOption() {
+		return option;
+	}
+
+	public String getConnectorName() {
+		return connectorName;
+	}
+
+	public static Connection fromOption(String option) {
+		for (Connection c : Connection.values()) {
+			if (!c.getOption().isEmpty() && c.getOption().equals(option)) {
+				return c;
+			}
+		}
+		return UNKNOWN;
+	}
+}
@@ -0,0 +1,138 @@
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Location;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.event.BreakpointEvent;
+import com.sun.jdi.event.Event;
+import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.EventRequest;
+import com.sun.jdi.request.EventRequestManager;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects line coverage with one-shot breakpoints on every line of the debugged classes.
+ * Each breakpoint only suspends the hitting thread and is deleted on its first hit, so covered code runs at full speed afterwards.
+ */
+public class Coverage {
+
+	private static final String PROPERTY = "coverage";
+
+	private final EventRequestManager reqManager;
+	private final Map<String, ClassCoverage> classes = new TreeMap<>();
+	private boolean enabled = false;
+
+	public Coverage(EventRequestManager reqManager) {
+		this.reqManager = reqManager;
+	}
+
+	public synchronized boolean isEnabled() {
+		return enabled;
+	}
+
+	public synchronized void enable() {
+		enabled = true;
+	}
+
+	/**
+	 * Places breakpoints on all lines of the class that were not hit yet. Also used after a class was redefined, which
+	 * deletes its breakpoints: the executable lines are then taken from the new line table, hits of vanished lines are dropped.
+	 */
+	public synchronized void install(ReferenceType refType) {
+		ClassCoverage cov = classes.get(refType.name());
+		try {
+			if (cov == null) {
+				cov = new ClassCoverage(refType.sourceName());
+			}
+			List<Location> locations = refType.allLineLocations();
+			cov.lines.clear();
+			for (Location location : locations) {
+				cov.lines.set(location.lineNumber());
+			}
+			cov.hits.and(cov.lines);
+			for (Location location : locations) {
+				if (cov.hits.get(location.lineNumber())) continue;
+				BreakpointRequest req = reqManager.createBreakpointRequest(location);
+				req.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+				req.putProperty(PROPERTY, cov);
+				req.enable();
+			}
+		} catch (AbsentInformationException e) {
+			System.out.println("No line number information for class " + refType.name() + ", not covered.");
+			return;
+		}
+		if (!cov.lines.isEmpty()) {
+			classes.put(refType.name(), cov);
+		}
+	}
+
+	public boolean isCoverageRequest(EventRequest req) {
+		return req.getProperty(PROPERTY) != null;
+	}
+
+	public boolean isCoverageEvent(Event e) {
+		return e instanceof BreakpointEvent && isCoverageRequest(e.request());
+	}
+
+	public synchronized void hit(BreakpointEvent e) {
+		ClassCoverage cov = (ClassCoverage) e.request().getProperty(PROPERTY);
+		cov.hits.set(e.location().lineNumber());
+		reqManager.deleteEventRequest(e.request());
+	}
+
+	public synchronized Response printSummary() {
+		if (classes.isEmpty()) {
+			System.out.println("No classes covered yet.");
+			return Response.OK;
+		}
+		System.out.println("Line coverage:");
+		classes.forEach((name, cov) -> System.out.printf("  %-30s %4d/%-4d lines (%.1f%%)\n",
+				name, cov.hits.cardinality(), cov.lines.cardinality(), 100.0 * cov.hits.cardinality() / cov.lines.cardinality()));
+		return Response.OK;
+	}
+
+	public synchronized Response printAnnotatedSource(String debugClass) {
+		String sourceName = debugClass + ".java";
+		BitSet lines = new BitSet();
+		BitSet hits = new BitSet();
+		for (ClassCoverage cov : classes.values()) {
+			if (sourceName.equals(cov.sourceName)) {
+				lines.or(cov.lines);
+				hits.or(cov.hits);
+			}
+		}
+		return Util.printSource(debugClass, lineNr -> {
+			char marker = hits.get(lineNr) ? '+' : lines.get(lineNr) ? '-' : ' ';
+			return String.format("%3d %c ", lineNr, marker);
+		});
+	}
+
+	/**
+	 * Writes one line per executable source line: {@code <class> <line> <hit: 0|1>}.
+	 */
+	public synchronized void writeReport(Path file) {
+		try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+			classes.forEach((name, cov) -> cov.lines.stream()
+					.forEach(line -> out.println(name + " " + line + " " + (cov.hits.get(line) ? 1 : 0))));
+			System.out.println("Coverage report written to " + file + ".");
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private static class ClassCoverage {
+		final String sourceName;
+		final BitSet lines = new BitSet();
+		final BitSet hits = new BitSet();
+
+		ClassCoverage(String sourceName) {
+			this.sourceName = sourceName;
+		}
+	}
+}
@@ -1,32 +1,53 @@
 import com.sun.jdi.*;
+import com.sun.jdi.connect.AttachingConnector;
 import com.sun.jdi.connect.Connector;
 import com.sun.jdi.connect.LaunchingConnector;
+import com.sun.jdi.connect.ListeningConnector;
 import com.sun.jdi.event.*;
 import com.sun.jdi.request.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.stream.Collectors;
 
 public class Debugger {
 
 	private final VirtualMachine vm;
 	private final String debugClass;
+	private final Connection connection;
+	private final String address;
 	private final EventRequestManager reqManager;
 	private final EventQueue eventQueue;
 	private final BlockingQueue<Response> responseQueue;
 	private ThreadReference thread;
 	private Location currLocation;
 	private final List<Integer> breakpoints = new ArrayList<>();
+	private final Map<Long, ObjectReference> objectHandles = new HashMap<>();
 	private final MethodEntryRequest breakOnEnterReq;
+	private final Coverage coverage;
+	private final Recorder recorder = new Recorder();
+	private final Stats stats = new Stats();
+	private volatile Command pendingCmd;
+	private volatile long pendingStart;
+	private FileTime lastCompiled;
 
-	public Debugger(String debugClass, BlockingQueue<Response> responseQueue) throws Exception {
+	public Debugger(String debugClass, Connection connection, String address, BlockingQueue<Response> responseQueue) throws Exception {
 		this.debugClass = debugClass;
+		this.connection = connection;
+		this.address = address;
 		this.responseQueue = responseQueue;
 		vm = initVM();
 		reqManager = vm.eventRequestManager();
 		eventQueue = vm.eventQueue();
+		coverage = new Coverage(reqManager);
 		new Listener().start();
 		ClassPrepareRequest cpReq = reqManager.createClassPrepareRequest();
 		cpReq.addClassFilter(debugClass + "*");
@@ -34,22 +55,80 @@ public class Debugger {
 		breakOnEnterReq = reqManager.createMethodEntryRequest();
 		breakOnEnterReq.addClassFilter(debugClass + "*");
 		breakOnEnterReq.disable();
+		Path classFile = Paths.get(debugClass + ".class");
+		lastCompiled = Files.exists(classFile) ? Files.getLastModifiedTime(classFile) : FileTime.fromMillis(0);
 	}
 
 	private VirtualMachine initVM() throws Exception {
+		try {
+			return switch (connection) {
+				case LAUNCH -> launchVM();
+				case ATTACH -> attachVM();
+				case PID -> attachVMByPid();
+				case LISTEN -> listenForVM();
+				default -> throw new IllegalArgumentException("Unsupported connection " + connection);
+			};
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		throw new Exception("Error initializing VM");
+	}
+
+	private VirtualMachine launchVM() throws Exception {
 		LaunchingConnector con = Bootstrap.virtualMachineManager().defaultConnector();
 		Map<String, Connector.Argument> vmArgs = con.defaultArguments();
 		vmArgs.get("main").setValue(debugClass); // set the main class
+		VirtualMachine vm = con.launch(vmArgs);
+		Process proc = vm.process();
+		new Redirection(proc.getErrorStream(), System.err).start();
+		new Redirection(proc.getInputStream(), System.out).start();
+		return vm;
+	}
+
+	private VirtualMachine attachVM() throws Exception {
+		AttachingConnector con = (AttachingConnector) findConnector();
+		Map<String, Connector.Argument> vmArgs = con.defaultArguments();
+		int sep = address.lastIndexOf(':');
+		if (sep >= 0) {
+			vmArgs.get("hostname").setValue(address.substring(0, sep));
+		}
+		vmArgs.get("port").setValue(address.substring(sep + 1));
+		VirtualMachine vm = con.attach(vmArgs);
+		System.out.println("Attached to VM at " + address + ".");
+		return vm;
+	}
+
+	private VirtualMachine attachVMByPid() throws Exception {
+		AttachingConnector con = (AttachingConnector) findConnector();
+		Map<String, Connector.Argument> vmArgs = con.defaultArguments();
+		vmArgs.get("pid").setValue(address);
+		VirtualMachine vm = con.attach(vmArgs);
+		System.out.println("Attached to VM with pid " + address + ".");
+		return vm;
+	}
+
+	private VirtualMachine listenForVM() throws Exception {
+		ListeningConnector con = (ListeningConnector) findConnector();
+		Map<String, Connector.Argument> vmArgs = con.defaultArguments();
+		vmArgs.get("port").setValue(address);
+		String listenAddress = con.startListening(vmArgs);
+		System.out.println("Listening at address: " + listenAddress);
 		try {
-			VirtualMachine vm = con.launch(vmArgs);
-			Process proc = vm.process();
-			new Redirection(proc.getErrorStream(), System.err).start();
-			new Redirection(proc.getInputStream(), System.out).start();
+			VirtualMachine vm = con.accept(vmArgs);
+			System.out.println("VM connected.");
 			return vm;
-		} catch (Exception e) {
-			e.printStackTrace();
+		} finally {
+			con.stopListening(vmArgs);
 		}
-		throw new Exception("Error initializing VM");
+	}
+
+	private Connector findConnector() throws Exception {
+		for (Connector con : Bootstrap.virtualMachineManager().allConnectors()) {
+			if (con.name().equals(connection.getConnectorName())) {
+				return con;
+			}
+		}
+		throw new Exception("Connector " + connection.getConnectorName() + " not available");
 	}
 
 	public void sendCommand(String commandString) throws IncompatibleThreadStateException, AbsentInformationException, ClassNotLoadedException {
@@ -59,26 +138,63 @@ public class Debugger {
 		if (commandString.length() > command.length()) {
 			args = commandString.substring(command.length() + 1).split(" ");
 		}
-		switch (cmd) {
-			case QUIT -> vm.exit(0);
-			case RUN -> vm.resume();
-			case STEP_OVER -> step(getThread(), StepRequest.STEP_OVER);
-			case STEP_INTO -> step(getThread(), StepRequest.STEP_INTO);
-			case LOCALS -> respond(Variables.printLocals(getThread()));
-			case GLOBALS -> respond(Variables.printGlobals(getThread()));
-			case SET_BREAKPOINT -> respond(installBreakpoint(args));
-			case REMOVE_BREAKPOINT -> respond(removeBreakpoint(args));
-			case PRINT_BREAKPOINTS -> respond(Util.printBreakpoints(breakpoints));
-			case METHOD_ENTRY -> respond(methodEntry());
-			case STACK_TRACE -> respond(Util.stackTrace(getThread()));
-			case PRINT_VALUE -> respond(Variables.printValueByName(getThread(), args));
-			case PRINT_FIELD -> respond(Variables.printObjectFieldByName(getThread(), args));
-			case STATE -> respond(Util.printProgramState(debugClass, currLocation, breakpoints));
-			case HELP -> respond(Util.printHelp());
-			default -> {
-				System.out.println("Invalid command");
-				respond(Response.NOK);
+		String snapshot = null;
+		if (cmd == Command.UNKNOWN && command.startsWith(Command.PRINT_RECORDED.getCmd())) {
+			cmd = Command.PRINT_RECORDED;
+			snapshot = command.substring(Command.PRINT_RECORDED.getCmd().length());
+		}
+		pendingStart = System.nanoTime();
+		pendingCmd = cmd;
+		// events of an attached VM may arrive while no command is pending, their responses are stale by now
+		synchronized (responseQueue) {
+			if (responseQueue.contains(Response.QUIT)) {
+				return;
+			}
+			responseQueue.clear();
+		}
+		if (thread == null && requiresThread(cmd, args)) {
+			System.out.println("No thread selected. Use 'run' until a breakpoint is hit or select one with 'thread'.");
+			respond(Response.NOK);
+			return;
+		}
+		try {
+			switch (cmd) {
+				case QUIT -> quit();
+				case RUN -> resume();
+				case STEP_OVER -> step(getThread(), StepRequest.STEP_OVER);
+				case STEP_INTO -> step(getThread(), StepRequest.STEP_INTO);
+				case LOCALS -> respond(Variables.printLocals(getThread()));
+				case GLOBALS -> respond(Variables.printGlobals(getThread()));
+				case SET_BREAKPOINT -> respond(installBreakpoint(args));
+				case REMOVE_BREAKPOINT -> respond(removeBreakpoint(args));
+				case PRINT_BREAKPOINTS -> respond(Util.printBreakpoints(breakpoints));
+				case METHOD_ENTRY -> respond(methodEntry());
+				case STACK_TRACE -> respond(Util.stackTrace(getThread()));
+				case PRINT_VALUE -> respond(Variables.printValueByName(getThread(), args, objectHandles));
+				case PRINT_FIELD -> respond(Variables.printObjectFieldByName(getThread(), args, objectHandles));
+				case STATE -> respond(Util.printProgramState(debugClass, currLocation, breakpoints));
+				case RELOAD -> respond(reloadClasses());
+				case THREADS -> respond(Util.printThreads(vm.allThreads(), thread));
+				case SELECT_THREAD -> respond(selectThread(args));
+				case COVERAGE -> respond(enableCoverage());
+				case RECORD -> respond(recorder.toggle(args));
+				case HISTORY -> respond(recorder.printHistory(args));
+				case BACK -> respond(recorder.back(args));
+				case PRINT_RECORDED -> respond(recorder.printRecorded(snapshot, args));
+				case STATS -> respond(stats.print(args));
+				case HEAP -> respond(Heap.printHistogram(vm, args));
+				case INSTANCES -> respond(Heap.printInstances(vm, args, objectHandles));
+				case REFERRERS -> respond(Heap.printReferrers(args, objectHandles));
+				case HELP -> respond(Util.printHelp());
+				default -> {
+					System.out.println("Invalid command");
+					respond(Response.NOK);
+				}
 			}
+		} catch (Exception e) {
+			// no response will be sent, so the latency must not be attributed to the next response
+			pendingCmd = null;
+			throw e;
 		}
 	}
 
@@ -86,8 +202,89 @@ public class Debugger {
 		return thread;
 	}
 
+	private static boolean requiresThread(Command cmd, String[] args) {
+		return switch (cmd) {
+			case STEP_OVER, STEP_INTO, LOCALS, GLOBALS, STACK_TRACE -> true;
+			// object handles are resolved without a frame
+			case PRINT_VALUE, PRINT_FIELD -> args == null || !Heap.isHandle(args[0]);
+			default -> false;
+		};
+	}
+
+	private void resume() {
+		vm.resume();
+		if (connection != Connection.LAUNCH) {
+			// a long-lived VM may never hit another event, so do not wait for one
+			System.out.println("VM resumed.");
+			respond(Response.OK);
+		}
+	}
+
+	private void quit() {
+		if (connection == Connection.LAUNCH) {
+			vm.exit(0);
+		} else {
+			System.out.println("Detaching from VM.");
+			vm.dispose();
+		}
+	}
+
+	private Response selectThread(String[] args) throws IncompatibleThreadStateException {
+		if (args == null || args.length != 1) {
+			System.out.println("Invalid number of arguments. Thread id must be specified.");
+			return Response.NOK;
+		}
+		long threadId;
+		try {
+			threadId = Long.parseLong(args[0]);
+		} catch (Exception e) {
+			System.out.println("Could not convert '" + args[0] + "' to long (thread id).");
+			return Response.NOK;
+		}
+		for (ThreadReference t : vm.allThreads()) {
+			if (t.uniqueID() == threadId) {
+				thread = t;
+				currLocation = t.isSuspended() && t.frameCount() > 0 ? t.frame(0).location() : null;
+				System.out.printf("Selected thread '%s'.\n", t.name());
+				return Response.OK;
+			}
+		}
+		System.out.println("No thread with id " + threadId);
+		return Response.NOK;
+	}
+
 	private void respond(Response response) {
-		responseQueue.add(response);
+		recordCommandLatency();
+		synchronized (responseQueue) {
+			if (responseQueue.contains(Response.QUIT)) {
+				return;
+			}
+			// anything still queued is the stale response of an event in an attached VM
+			responseQueue.clear();
+			responseQueue.add(response);
+		}
+	}
+
+	/**
+	 * Responses of run and step are sent by the listener, so this also covers the time until the halting event.
+	 */
+	private void recordCommandLatency() {
+		Command cmd = pendingCmd;
+		if (cmd != null) {
+			stats.recordCommand(cmd, System.nanoTime() - pendingStart);
+			pendingCmd = null;
+		}
+	}
+
+	private void respondToEvent(Response response) {
+		recordCommandLatency();
+		synchronized (responseQueue) {
+			if (!responseQueue.offer(response) && response == Response.QUIT) {
+				// the pending response is dropped, so that the main loop terminates
+				responseQueue.clear();
+				responseQueue.add(response);
+			}
+		}
 	}
 
 	private Response methodEntry() {
@@ -100,6 +297,18 @@ public class Debugger {
 		return Response.OK;
 	}
 
+	private Response enableCoverage() {
+		if (coverage.isEnabled()) {
+			return coverage.printSummary();
+		}
+		coverage.enable();
+		for (ReferenceType type : loadedDebugClasses()) {
+			coverage.install(type);
+		}
+		System.out.println("Line coverage collection enabled. A report is written when the program terminates.");
+		return Response.OK;
+	}
+
 	private Response installBreakpoint(String[] args) {
 		if (args == null || args.length != 1) {
 			System.out.println("Invalid number of arguments. Line number must be specified.");
@@ -114,6 +323,21 @@ public class Debugger {
 		}
 		breakpoints.add(lineNr);
 		System.out.printf("Breakpoint in line %s added.\n", lineNr);
+		List<ReferenceType> loadedClasses = loadedDebugClasses();
+		if (loadedClasses.isEmpty()) {
+			return Response.OK;
+		}
+		boolean installed = false;
+		for (ReferenceType type : loadedClasses) {
+			try {
+				installed |= setBreakpoint(type, lineNr);
+			} catch (AbsentInformationException e) {
+				System.out.println("No line number information for class " + type.name() + ".");
+			}
+		}
+		if (!installed) {
+			System.out.printf("Warning: No code location for line %d found in the already loaded classes.\n", lineNr);
+		}
 		return Response.OK;
 	}
 
@@ -134,10 +358,118 @@ public class Debugger {
 			return Response.NOK;
 		}
 		breakpoints.remove(lineNr);
+		List<BreakpointRequest> requests = reqManager.breakpointRequests().stream()
+				.filter(req -> req.location().lineNumber() == lineNr && !coverage.isCoverageRequest(req))
+				.collect(Collectors.toList());
+		reqManager.deleteEventRequests(requests);
 		System.out.printf("Breakpoint in line %s removed.\n", lineNr);
 		return Response.OK;
 	}
 
+	private Response reloadClasses() {
+		if (!vm.canRedefineClasses()) {
+			System.out.println("Target VM does not support class redefinition.");
+			return Response.NOK;
+		}
+		Map<ReferenceType, byte[]> classes = new HashMap<>();
+		FileTime compiled;
+		try {
+			Path source = Paths.get(debugClass + ".java");
+			if (Files.getLastModifiedTime(source).compareTo(lastCompiled) <= 0) {
+				System.out.println("No changes in " + source + " since last compilation.");
+				return Response.OK;
+			}
+			if (Util.compileProgram(debugClass) != 0) {
+				System.out.println("Error compiling test program. Classes were not reloaded.");
+				return Response.NOK;
+			}
+			compiled = Files.getLastModifiedTime(Paths.get(debugClass + ".class"));
+			for (ReferenceType type : loadedDebugClasses()) {
+				Path classFile = Paths.get(type.name() + ".class");
+				if (Files.exists(classFile)) {
+					classes.put(type, Files.readAllBytes(classFile));
+				}
+			}
+		} catch (IOException | InterruptedException e) {
+			e.printStackTrace();
+			return Response.NOK;
+		}
+		try {
+			vm.redefineClasses(classes);
+		} catch (UnsupportedOperationException | LinkageError e) {
+			System.out.println("Could not redefine classes: " + e);
+			return Response.NOK;
+		}
+		lastCompiled = compiled;
+		System.out.printf("Reloaded %d class(es).\n", classes.size());
+		try {
+			for (ReferenceType type : classes.keySet()) {
+				setBreakpoints(type);
+				if (coverage.isEnabled()) {
+					coverage.install(type);
+				}
+			}
+		} catch (AbsentInformationException e) {
+			e.printStackTrace();
+		}
+		if (thread != null && thread.isSuspended()) {
+			dropObsoleteFrames();
+		}
+		return Response.OK;
+	}
+
+	/**
+	 * Pops the outermost frame executing an obsolete (redefined) method, so that the call is re-executed
+	 * using the new code. The bottom frame can not be popped, so a redefined main method keeps running old code.
+	 */
+	private void dropObsoleteFrames() {
+		if (!vm.canPopFrames()) {
+			System.out.println("Target VM can not pop frames. Redefined methods on the stack continue with old code.");
+			return;
+		}
+		try {
+			List<StackFrame> frames = thread.frames();
+			for (int i = frames.size() - 2; i >= 0; i--) {
+				Method method = frames.get(i).location().method();
+				if (method.isObsolete()) {
+					thread.popFrames(frames.get(i));
+					currLocation = thread.frame(0).location();
+					System.out.printf("Dropped to frame of '%s' at ", currLocation.method().name());
+					Util.printLocation(currLocation);
+					return;
+				}
+			}
+		} catch (IncompatibleThreadStateException | NativeMethodException | InvalidStackFrameException e) {
+			System.out.println("Could not drop frame: " + e);
+		}
+	}
+
+	private List<ReferenceType> loadedDebugClasses() {
+		return vm.allClasses().stream()
+				.filter(type -> type.name().startsWith(debugClass) && type.isPrepared())
+				.collect(Collectors.toList());
+	}
+
+	private void setBreakpoints(ReferenceType refType) throws AbsentInformationException {
+		for (Integer lineNumber : breakpoints) {
+			if (!setBreakpoint(refType, lineNumber)) {
+				System.out.printf("Warning: Could not set breakpoint in line %d" +
+						", no such code location found in class %s.\n", lineNumber, refType.name());
+			}
+		}
+	}
+
+	private boolean setBreakpoint(ReferenceType refType, int lineNumber) throws AbsentInformationException {
+		List<Location> locations = refType.locationsOfLine(lineNumber);
+		if (locations.size() < 1) {
+			return false;
+		}
+		Location location = locations.get(0);
+		BreakpointRequest bpReq = reqManager.createBreakpointRequest(location);
+		bpReq.enable();
+		return true;
+	}
+
 	void step(ThreadReference thread, int stepType) {
 		if (currLocation == null) {
 			System.out.println("Not at any breakpoint. Use 'run' first.");
@@ -171,11 +503,21 @@ public class Debugger {
 				try {
 					EventSet events = eventQueue.remove();
 					Response resp = null;
+					boolean coverageOnly = true;
 					for (Event e : events) {
-						resp = processEvent(e);
+						long start = System.nanoTime();
+						if (coverage.isCoverageEvent(e)) {
+							coverage.hit((BreakpointEvent) e);
+						} else {
+							coverageOnly = false;
+							resp = processEvent(e);
+						}
+						stats.recordEvent(eventType(e), System.nanoTime() - start);
 					}
-					if (resp != null) {
-						respond(resp);
+					if (coverageOnly) {
+						events.resume();
+					} else if (resp != null) {
+						respondToEvent(resp);
 						if (resp == Response.QUIT) return;
 					}
 				} catch (Exception e) {
@@ -197,25 +539,34 @@ public class Debugger {
 					return null;
 				}
 				MethodEntryEvent me = (MethodEntryEvent) e;
+				thread = me.thread();
 				currLocation = me.location();
 				System.out.printf("Halted while entering method '%s' at ", me.method().name());
 				Util.printLocation(currLocation);
+				recordState();
 			} else if (e instanceof BreakpointEvent) {
+				thread = ((BreakpointEvent) e).thread();
 				currLocation = ((BreakpointEvent) e).location();
 				System.out.print("Breakpoint halted in " + currLocation.method().name() + " at ");
 				Util.printLocation(currLocation);
 				reqManager.deleteEventRequest(e.request());
+				recordState();
 			} else if (e instanceof StepEvent) {
 				StepEvent se = (StepEvent) e;
+				thread = se.thread();
 				System.out.print("Step halted in " + se.location().method().name() + " at ");
 				Util.printLocation(se.location());
 				currLocation = se.location();
 				reqManager.deleteEventRequest(se.request());
+				recordState();
 			} else if (e instanceof ClassPrepareEvent) {
 				setClassBreakPoints((ClassPrepareEvent) e);
 				return null;
 			} else if (e instanceof VMDeathEvent || e instanceof VMDisconnectEvent) {
 				System.out.println("Program terminated.");
+				if (coverage.isEnabled()) {
+					reportCoverage();
+				}
 				return Response.QUIT;
 			}
 
@@ -223,18 +574,30 @@ public class Debugger {
 		}
 
 
+		private String eventType(Event e) {
+			String name = e.getClass().getSimpleName();
+			return name.endsWith("Impl") ? name.substring(0, name.length() - "Impl".length()) : name;
+		}
+
+		private void recordState() {
+			if (!recorder.isEnabled()) return;
+			try {
+				recorder.record(thread);
+			} catch (IncompatibleThreadStateException e) {
+				e.printStackTrace();
+			}
+		}
+
+		private void reportCoverage() {
+			coverage.printAnnotatedSource(debugClass);
+			coverage.printSummary();
+			coverage.writeReport(Paths.get(debugClass + ".coverage"));
+		}
+
 		private void setClassBreakPoints(ClassPrepareEvent e) throws AbsentInformationException {
-			ClassType classType = (ClassType) e.referenceType();
-			for (Integer lineNumber : breakpoints) {
-				List<Location> locations = classType.locationsOfLine(lineNumber);
-				if (locations.size() < 1) {
-					System.out.printf("Warning: Could not set breakpoint in line %d" +
-							", no such code location found in class %s.\n", lineNumber, classType.name());
-					continue;
-				}
-				Location location = locations.get(0);
-				BreakpointRequest bpReq = reqManager.createBreakpointRequest(location);
-				bpReq.enable();
+			setBreakpoints(e.referenceType());
+			if (coverage.isEnabled()) {
+				coverage.install(e.referenceType());
 			}
 			vm.resume();
 		}
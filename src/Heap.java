@@ -0,0 +1,188 @@
+import com.sun.jdi.*;
+
+import java.util.*;
+
+public class Heap {
+
+	private static final int DEFAULT_TOP = 20;
+	private static final int DEFAULT_INSTANCE_LIMIT = 20;
+	private static final int DEFAULT_REFERRER_DEPTH = 2;
+	private static final int MAX_REFERRERS = 10;
+	private static final int MAX_REFERRER_DEPTH = 5;
+	private static final int MAX_REFERRER_NODES = 100;
+
+	static Response printHistogram(VirtualMachine vm, String[] args) {
+		if (!vm.canGetInstanceInfo()) {
+			System.out.println("Target VM does not support instance info.");
+			return Response.NOK;
+		}
+		String pattern = null;
+		Integer top = DEFAULT_TOP;
+		Integer from = 0;
+		int argIdx = 0;
+		if (args != null && !args[0].equals("top") && !args[0].equals("from")) {
+			pattern = args[argIdx++];
+		}
+		for (; args != null && argIdx < args.length; argIdx += 2) {
+			if (argIdx + 1 >= args.length || (!args[argIdx].equals("top") && !args[argIdx].equals("from"))) {
+				System.out.println("Invalid arguments.\nUsage: heap [pattern] [top <n>] [from <k>]");
+				return Response.NOK;
+			}
+			if (args[argIdx].equals("top")) {
+				top = Util.parseNumber(args[argIdx + 1], 1, Integer.MAX_VALUE, "positive integer");
+			} else {
+				from = Util.parseNumber(args[argIdx + 1], 0, Integer.MAX_VALUE, "non-negative integer (offset)");
+			}
+			if (top == null || from == null) {
+				return Response.NOK;
+			}
+		}
+		List<ReferenceType> types = new ArrayList<>();
+		for (ReferenceType type : vm.allClasses()) {
+			if (pattern == null || type.name().contains(pattern)) {
+				types.add(type);
+			}
+		}
+		// a single round trip for all types, instead of one per type
+		long[] counts = vm.instanceCounts(types);
+		Integer[] order = new Integer[types.size()];
+		long total = 0;
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+			total += counts[i];
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(counts[b], counts[a]));
+		System.out.printf("%12s  %s\n", "instances", "class");
+		int start = Math.min(from, order.length);
+		int end = (int) Math.min((long) start + top, order.length);
+		for (int i = start; i < end; i++) {
+			System.out.printf("%12d  %s\n", counts[order[i]], types.get(order[i]).name());
+		}
+		System.out.printf("Showing %d - %d of %d classes, %d instances in total.\n", start + 1, end, types.size(), total);
+		if (end < order.length) {
+			System.out.printf("Use 'from %d' for the next page.\n", end);
+		}
+		return Response.OK;
+	}
+
+	static Response printInstances(VirtualMachine vm, String[] args, Map<Long, ObjectReference> objectHandles) {
+		if (args == null || (args.length != 1 && args.length != 2 && args.length != 4)
+				|| (args.length == 4 && !args[2].equals("from"))) {
+			System.out.println("Invalid number of arguments.\nUsage: instances <class> [limit] [from <k>]");
+			return Response.NOK;
+		}
+		if (!vm.canGetInstanceInfo()) {
+			System.out.println("Target VM does not support instance info.");
+			return Response.NOK;
+		}
+		Integer limit = DEFAULT_INSTANCE_LIMIT;
+		Integer from = 0;
+		if (args.length >= 2) {
+			limit = Util.parseNumber(args[1], 1, Integer.MAX_VALUE, "positive integer limit");
+		}
+		if (args.length == 4) {
+			from = Util.parseNumber(args[3], 0, Integer.MAX_VALUE, "non-negative integer (offset)");
+		}
+		if (limit == null || from == null) {
+			return Response.NOK;
+		}
+		List<ReferenceType> types = vm.classesByName(args[0]);
+		if (types.isEmpty()) {
+			System.out.printf("No loaded class with name '%s' found.\n", args[0]);
+			return Response.NOK;
+		}
+		long[] counts = vm.instanceCounts(types);
+		for (int i = 0; i < types.size(); i++) {
+			// JDI has no offset, so the instances before the requested page are fetched again for every page. The VM returns
+			// them in no particular order, sorting by id only keeps pages consistent while the heap does not change: objects
+			// created or collected in between can make pages overlap or skip instances
+			List<ObjectReference> instances = new ArrayList<>(types.get(i).instances((int) Math.min((long) from + limit, Integer.MAX_VALUE)));
+			instances.sort(Comparator.comparingLong(ObjectReference::uniqueID));
+			int start = Math.min(from, instances.size());
+			for (ObjectReference obj : instances.subList(start, instances.size())) {
+				printHandle(obj, objectHandles);
+			}
+			System.out.printf("Showing %d - %d of %d instances of %s.\n", start + 1, instances.size(), counts[i], types.get(i).name());
+			if (instances.size() < counts[i]) {
+				System.out.printf("Use 'instances %s %d from %d' for the next page.\n", args[0], limit, instances.size());
+			}
+		}
+		return Response.OK;
+	}
+
+	static Response printReferrers(String[] args, Map<Long, ObjectReference> objectHandles) {
+		if (args == null || args.length < 1 || args.length > 2) {
+			System.out.println("Invalid number of arguments.\nUsage: referrers <@obj> [depth]");
+			return Response.NOK;
+		}
+		ObjectReference obj = getHandle(args[0], objectHandles);
+		if (obj == null) {
+			return Response.NOK;
+		}
+		if (!obj.virtualMachine().canGetInstanceInfo()) {
+			System.out.println("Target VM does not support instance info.");
+			return Response.NOK;
+		}
+		Integer depth = DEFAULT_REFERRER_DEPTH;
+		if (args.length == 2) {
+			depth = Util.parseNumber(args[1], 1, MAX_REFERRER_DEPTH, "integer depth between 1 and " + MAX_REFERRER_DEPTH);
+		}
+		if (depth == null) {
+			return Response.NOK;
+		}
+		try {
+			printHandle(obj, objectHandles);
+			Set<Long> visited = new HashSet<>();
+			printReferrers(obj, depth, 1, visited, objectHandles);
+			if (visited.size() >= MAX_REFERRER_NODES) {
+				System.out.printf("Stopped after %d objects, use a smaller depth or start from a referrer.\n", MAX_REFERRER_NODES);
+			}
+		} catch (ObjectCollectedException e) {
+			System.out.println("Object has been garbage collected.");
+			return Response.NOK;
+		}
+		return Response.OK;
+	}
+
+	private static void printReferrers(ObjectReference obj, int maxDepth, int depth, Set<Long> visited, Map<Long, ObjectReference> objectHandles) {
+		// every visited object costs a round trip, so the whole walk is bounded as well, not only its depth
+		if (depth > maxDepth || visited.size() >= MAX_REFERRER_NODES || !visited.add(obj.uniqueID())) {
+			return;
+		}
+		List<ObjectReference> referrers = obj.referringObjects(MAX_REFERRERS + 1);
+		for (ObjectReference referrer : referrers.subList(0, Math.min(MAX_REFERRERS, referrers.size()))) {
+			System.out.print("  ".repeat(depth) + "L ");
+			printHandle(referrer, objectHandles);
+			printReferrers(referrer, maxDepth, depth + 1, visited, objectHandles);
+		}
+		if (referrers.size() > MAX_REFERRERS) {
+			System.out.println("  ".repeat(depth) + "L ...");
+		}
+	}
+
+	private static void printHandle(ObjectReference obj, Map<Long, ObjectReference> objectHandles) {
+		objectHandles.put(obj.uniqueID(), obj);
+		System.out.print("@" + obj.uniqueID() + " " + obj.referenceType().name());
+		if (obj instanceof ArrayReference) {
+			System.out.print(" (length " + ((ArrayReference) obj).length() + ")");
+		}
+		System.out.println();
+	}
+
+	static boolean isHandle(String name) {
+		return name.startsWith("@");
+	}
+
+	static ObjectReference getHandle(String name, Map<Long, ObjectReference> objectHandles) {
+		ObjectReference obj = null;
+		try {
+			obj = objectHandles.get(Long.parseLong(name.substring(1)));
+		} catch (Exception e) {
+			// invalid handle format, treated as unknown below
+		}
+		if (obj == null) {
+			System.out.printf("Unknown object handle '%s'. Use 'instances' or 'referrers' to get handles.\n", name);
+		}
+		return obj;
+	}
+}
@@ -1,4 +1,5 @@
-import java.io.IOException;
+import com.sun.jdi.IncompatibleThreadStateException;
+
 import java.util.Scanner;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -8,7 +9,7 @@ import static java.lang.System.exit;
 public class Main {
 
 	public static void main(String[] args) throws Exception {
-		if (args == null || args.length != 1) {
+		if (args == null || (args.length != 1 && args.length != 3)) {
 			System.out.println("Invalid amount of arguments.");
 			printUsage();
 			return;
@@ -16,17 +17,39 @@ public class Main {
 			printUsage();
 			return;
 		}
-		String testProgram = args[0];
-		compileProgram(testProgram);
+		Connection connection = Connection.LAUNCH;
+		String address = null;
+		if (args.length == 3) {
+			connection = Connection.fromOption(args[0]);
+			if (connection == Connection.UNKNOWN) {
+				System.out.println("Unknown option '" + args[0] + "'.");
+				printUsage();
+				return;
+			}
+			address = args[1];
+		}
+		String testProgram = args[args.length - 1];
+		if (connection == Connection.LAUNCH) {
+			int exitVal = Util.compileProgram(testProgram);
+			if (exitVal != 0) {
+				System.out.println("Error compiling test program.");
+				exit(exitVal);
+			}
+		}
 
 		BlockingQueue<Response> responseQueue = new ArrayBlockingQueue<>(1);
-		Debugger debugger = new Debugger(testProgram, responseQueue);
+		Debugger debugger = new Debugger(testProgram, connection, address, responseQueue);
 
 		Scanner scanner = new Scanner(System.in);
 		for (; ; ) {
 			System.out.print("$ ");
 			String cmd = scanner.nextLine();
-			debugger.sendCommand(cmd);
+			try {
+				debugger.sendCommand(cmd);
+			} catch (IncompatibleThreadStateException e) {
+				System.out.println("Current thread is not suspended.");
+				continue;
+			}
 			Response response = responseQueue.take();
 			if (response == Response.QUIT) {
 				break;
@@ -35,16 +58,11 @@ public class Main {
 	}
 
 	private static void printUsage() {
-		System.out.println("Usage:\njava Main <TestProgram>");
+		System.out.println("Usage:\njava Main [--attach <host:port> | --pid <pid> | --listen <port>] <TestProgram>");
 		System.out.println("    <TestProgram> ... the Java class file to compile and debug (without extension).");
-	}
-
-	private static void compileProgram(String toCompile) throws IOException, InterruptedException {
-		int exitVal = new ProcessBuilder("javac", "-g", toCompile + ".java").start().waitFor();
-		if (exitVal != 0) {
-			System.out.println("Error compiling test program.");
-			exit(exitVal);
-		}
+		System.out.println("    --attach      ... attach to a running VM started with -agentlib:jdwp=transport=dt_socket,server=y.");
+		System.out.println("    --pid         ... attach to the running VM with the given process id.");
+		System.out.println("    --listen      ... wait for a VM started with -agentlib:jdwp=transport=dt_socket,server=n.");
+		System.out.println("    In attach and listen mode <TestProgram> is not compiled, it is only used as class filter.");
 	}
 }
-
@@ -0,0 +1,236 @@
+import com.sun.jdi.*;
+
+import java.util.*;
+
+/**
+ * Records the location and local variables at every halt of the debuggee.
+ * Only the locals that changed since the previous snapshot are stored; the full state of the oldest retained snapshot is
+ * kept as base, so any recorded state can be restored by replaying the deltas without accessing the VM.
+ * Snapshots are evicted oldest first once the estimated memory use exceeds the configured limit.
+ */
+public class Recorder {
+
+	private static final int DEFAULT_LIMIT_KB = 16 * 1024;
+	private static final int MAX_LIMIT_KB = 1024 * 1024;
+	private static final int DEFAULT_HISTORY = 20;
+	private static final int ENTRY_OVERHEAD = 64;
+	private static final int MAX_STRING_LENGTH = 100;
+
+	private final Deque<Snapshot> snapshots = new ArrayDeque<>();
+	private Map<String, String> base = new LinkedHashMap<>();
+	private Map<String, String> latest = new LinkedHashMap<>();
+	private long nextSeq = 0;
+	private long usedBytes = 0;
+	private long limitBytes = DEFAULT_LIMIT_KB * 1024L;
+	private long cursor = -1;
+	private boolean enabled = false;
+
+	public synchronized boolean isEnabled() {
+		return enabled;
+	}
+
+	public synchronized Response toggle(String[] args) {
+		if (enabled) {
+			enabled = false;
+			System.out.println("Recording: off.");
+			return Response.OK;
+		}
+		if (args != null && args.length == 1) {
+			Integer limitKB = Util.parseNumber(args[0], 1, MAX_LIMIT_KB, "memory limit between 1 and " + MAX_LIMIT_KB + " KB");
+			if (limitKB == null) {
+				return Response.NOK;
+			}
+			limitBytes = limitKB * 1024L;
+		}
+		enabled = true;
+		System.out.printf("Recording: on (memory limit %d KB).\n", limitBytes / 1024);
+		return Response.OK;
+	}
+
+	public synchronized void record(ThreadReference thread) throws IncompatibleThreadStateException {
+		StackFrame frame = thread.frame(0);
+		Location loc = frame.location();
+		Map<String, String> locals = new LinkedHashMap<>();
+		try {
+			List<LocalVariable> vars = frame.visibleVariables();
+			frame.getValues(vars).forEach((var, val) -> locals.put(var.name(), valueToString(val)));
+		} catch (AbsentInformationException e) {
+			// no local variable information (e.g. compiled without -g), only the location is recorded
+		}
+		Map<String, String> changed = new LinkedHashMap<>();
+		locals.forEach((name, val) -> {
+			if (!val.equals(latest.get(name))) changed.put(name, val);
+		});
+		List<String> removed = new ArrayList<>();
+		for (String name : latest.keySet()) {
+			if (!locals.containsKey(name)) removed.add(name);
+		}
+		Snapshot snapshot = new Snapshot(nextSeq++, loc.declaringType().name() + "." + loc.method().name(), loc.lineNumber(), changed, removed);
+		if (snapshots.isEmpty()) {
+			base = new LinkedHashMap<>(locals);
+		}
+		snapshots.addLast(snapshot);
+		usedBytes += snapshot.size;
+		latest = locals;
+		cursor = snapshot.seq;
+		while (usedBytes > limitBytes && snapshots.size() > 1) {
+			evictOldest();
+		}
+	}
+
+	private void evictOldest() {
+		Snapshot oldest = snapshots.removeFirst();
+		usedBytes -= oldest.size;
+		apply(base, snapshots.getFirst());
+	}
+
+	private static void apply(Map<String, String> state, Snapshot snapshot) {
+		snapshot.removed.forEach(state::remove);
+		state.putAll(snapshot.changed);
+	}
+
+	private Snapshot find(long seq) {
+		for (Snapshot s : snapshots) {
+			if (s.seq == seq) return s;
+		}
+		return null;
+	}
+
+	private Map<String, String> restore(long seq) {
+		Map<String, String> state = new LinkedHashMap<>(base);
+		Iterator<Snapshot> it = snapshots.iterator();
+		it.next(); // the base already is the state of the oldest snapshot
+		while (it.hasNext()) {
+			Snapshot s = it.next();
+			if (s.seq > seq) break;
+			apply(state, s);
+		}
+		return state;
+	}
+
+	public synchronized Response printHistory(String[] args) {
+		if (snapshots.isEmpty()) {
+			System.out.println("Nothing recorded yet. Use 'record' to enable recording.");
+			return Response.NOK;
+		}
+		Integer count = DEFAULT_HISTORY;
+		if (args != null && args.length == 1) {
+			count = Util.parseNumber(args[0], 1, Integer.MAX_VALUE, "positive integer");
+		}
+		if (count == null) {
+			return Response.NOK;
+		}
+		int skip = Math.max(0, snapshots.size() - count);
+		Iterator<Snapshot> it = snapshots.iterator();
+		for (int i = 0; i < skip; i++) it.next();
+		while (it.hasNext()) {
+			Snapshot s = it.next();
+			System.out.print(s.seq == cursor ? ">" : " ");
+			System.out.printf("#%-5d %s line %d", s.seq, s.method, s.line);
+			if (!s.changed.isEmpty()) {
+				System.out.print("  " + s.changed);
+			}
+			System.out.println();
+		}
+		System.out.printf("%d snapshots recorded (#%d - #%d), ~%d KB used.\n",
+				snapshots.size(), snapshots.getFirst().seq, snapshots.getLast().seq, usedBytes / 1024);
+		return Response.OK;
+	}
+
+	public synchronized Response back(String[] args) {
+		if (snapshots.isEmpty()) {
+			System.out.println("Nothing recorded yet. Use 'record' to enable recording.");
+			return Response.NOK;
+		}
+		int steps = 1;
+		if (args != null && args.length == 1) {
+			try {
+				steps = Integer.parseInt(args[0]);
+			} catch (Exception e) {
+				System.out.println("Could not convert '" + args[0] + "' to integer.");
+				return Response.NOK;
+			}
+		}
+		long target = Math.min(Math.max(cursor - steps, snapshots.getFirst().seq), snapshots.getLast().seq);
+		if (target == cursor && steps > 0) {
+			System.out.println("Already at the oldest recorded snapshot.");
+		}
+		cursor = target;
+		Snapshot s = find(cursor);
+		System.out.printf("#%d %s line %d\n", s.seq, s.method, s.line);
+		restore(cursor).forEach((name, val) -> System.out.println(name + " = " + val));
+		return Response.OK;
+	}
+
+	public synchronized Response printRecorded(String seqString, String[] args) {
+		if (args == null || args.length != 1) {
+			System.out.println("Invalid number of arguments.\nUsage: print@<n> <var>");
+			return Response.NOK;
+		}
+		long seq;
+		try {
+			seq = Long.parseLong(seqString);
+		} catch (Exception e) {
+			System.out.println("Could not convert '" + seqString + "' to snapshot number.");
+			return Response.NOK;
+		}
+		if (find(seq) == null) {
+			System.out.printf("Snapshot #%d is not recorded. Use 'history' to list the snapshots.\n", seq);
+			return Response.NOK;
+		}
+		String val = restore(seq).get(args[0]);
+		if (val == null) {
+			System.out.printf("No local variable with name '%s' recorded in snapshot #%d.\n", args[0], seq);
+			return Response.NOK;
+		}
+		System.out.println(args[0] + "@" + seq + " = " + val);
+		return Response.OK;
+	}
+
+	/**
+	 * Renders a value without invoking methods in the debuggee, objects are only identified by type and id.
+	 */
+	private static String valueToString(Value val) {
+		if (val == null) {
+			return "null";
+		} else if (val instanceof StringReference) {
+			String str = ((StringReference) val).value();
+			if (str.length() > MAX_STRING_LENGTH) {
+				str = str.substring(0, MAX_STRING_LENGTH) + "...";
+			}
+			return '"' + str + '"';
+		} else if (val instanceof ArrayReference) {
+			ArrayReference arr = (ArrayReference) val;
+			String type = arr.type().name();
+			return type.substring(0, type.length() - 1) + arr.length() + "] @" + arr.uniqueID();
+		} else if (val instanceof ObjectReference) {
+			return val.type().name() + " @" + ((ObjectReference) val).uniqueID();
+		}
+		return val.toString();
+	}
+
+	private static class Snapshot {
+		final long seq;
+		final String method;
+		final int line;
+		final Map<String, String> changed;
+		final List<String> removed;
+		final int size;
+
+		Snapshot(long seq, String method, int line, Map<String, String> changed, List<String> removed) {
+			this.seq = seq;
+			this.method = method;
+			this.line = line;
+			this.changed = changed;
+			this.removed = removed;
+			int bytes = ENTRY_OVERHEAD + 2 * method.length();
+			for (Map.Entry<String, String> e : changed.entrySet()) {
+				bytes += ENTRY_OVERHEAD + 2 * (e.getKey().length() + e.getValue().length());
+			}
+			for (String name : removed) {
+				bytes += ENTRY_OVERHEAD + 2 * name.length();
+			}
+			this.size = bytes;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency statistics of the debugger itself: time from sending a command until its response and time spent handling
+ * the events of the debuggee. Durations are recorded into fixed size log-linear histograms, so recording only costs
+ * an array increment.
+ */
+public class Stats {
+
+	private final Map<Command, Histogram> commands = new EnumMap<>(Command.class);
+	private final Map<String, Histogram> events = new TreeMap<>();
+
+	public synchronized void recordCommand(Command cmd, long nanos) {
+		commands.computeIfAbsent(cmd, c -> new Histogram()).record(nanos);
+	}
+
+	public synchronized void recordEvent(String eventType, long nanos) {
+		events.computeIfAbsent(eventType, e -> new Histogram()).record(nanos);
+	}
+
+	public synchronized Response print(String[] args) {
+		if (args != null && args.length == 1 && args[0].equals("reset")) {
+			commands.clear();
+			events.clear();
+			System.out.println("Statistics reset.");
+			return Response.OK;
+		}
+		System.out.printf("%-20s %8s %10s %10s %10s %10s %10s\n", "command/event", "count", "mean us", "p50 us", "p90 us", "p99 us", "max us");
+		commands.forEach((cmd, hist) -> hist.print(cmd.getCmd().isEmpty() ? cmd.name().toLowerCase() : cmd.getCmd()));
+		events.forEach((type, hist) -> hist.print(type));
+		return Response.OK;
+	}
+
+	static class Histogram {
+		// 2^SUB_BITS linear sub-buckets per power of two, i.e. values are recorded with a relative error of at most 12.5%
+		private static final int SUB_BITS = 3;
+		private static final int SUB_COUNT = 1 << SUB_BITS;
+
+		private final long[] counts = new long[64 << SUB_BITS];
+		private long count = 0;
+		private long total = 0;
+		private long max = 0;
+
+		void record(long value) {
+			value = Math.max(0, value);
+			counts[index(value)]++;
+			count++;
+			total += value;
+			max = Math.max(max, value);
+		}
+
+		long percentile(double p) {
+			long rank = (long) Math.ceil(p * count);
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank && seen > 0) {
+					return Math.min(lowerBound(i + 1) - 1, max);
+				}
+			}
+			return max;
+		}
+
+		void print(String name) {
+			System.out.printf("%-20s %8d %10.1f %10.1f %10.1f %10.1f %10.1f\n", name, count, total / 1000.0 / count,
+					percentile(0.5) / 1000.0, percentile(0.9) / 1000.0, percentile(0.99) / 1000.0, max / 1000.0);
+		}
+
+		static int index(long value) {
+			if (value < SUB_COUNT) {
+				return (int) value;
+			}
+			int exp = 63 - Long.numberOfLeadingZeros(value);
+			int sub = (int) (value >>> (exp - SUB_BITS)) & (SUB_COUNT - 1);
+			return ((exp - SUB_BITS + 1) << SUB_BITS) + sub;
+		}
+
+		static long lowerBound(int index) {
+			if (index < SUB_COUNT) {
+				return index;
+			}
+			int exp = (index >> SUB_BITS) + SUB_BITS - 1;
+			int sub = index & (SUB_COUNT - 1);
+			return (long) (SUB_COUNT + sub) << (exp - SUB_BITS);
+		}
+	}
+}
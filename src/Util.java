@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 public class Util {
@@ -35,7 +36,10 @@ public class Util {
 			System.out.print("]");
 		} else if (val instanceof ObjectReference) {
 			ObjectReference ref = (ObjectReference) val;
-			if (ref.type().signature().equals("Ljava/util/ArrayList;")) {
+			if (thread == null || !thread.isSuspended()) {
+				// methods can only be invoked in a suspended thread
+				System.out.print(ref.referenceType().name() + " @" + ref.uniqueID() + " ");
+			} else if (ref.type().signature().equals("Ljava/util/ArrayList;")) {
 				Method toArray = ref.referenceType().methodsByName("toArray", "()[Ljava/lang/Object;").get(0);
 				try {
 					Value value = ref.invokeMethod(thread, toArray, Collections.emptyList(), 0);
@@ -90,26 +94,31 @@ public class Util {
 		return Response.OK;
 	}
 
+	public static Response printThreads(List<ThreadReference> threads, ThreadReference current) {
+		System.out.println("Threads (id, name, status):");
+		for (ThreadReference t : threads) {
+			System.out.print(t.equals(current) ? "> " : "  ");
+			System.out.printf("%5d %-30s %s\n", t.uniqueID(), t.name(), t.isSuspended() ? "suspended" : "running");
+		}
+		return Response.OK;
+	}
+
 	public static Response printProgramState(String debugClass, Location currLoc, List<Integer> breakpoints) {
+		return printSource(debugClass, lineNr -> {
+			char current = currLoc != null && lineNr == currLoc.lineNumber() ? '>' : ' ';
+			char breakpoint = breakpoints.contains(lineNr) ? 'o' : ' ';
+			return String.format("%c%3d %c ", current, lineNr, breakpoint);
+		});
+	}
+
+	public static Response printSource(String debugClass, IntFunction<String> linePrefix) {
 		Path path = Paths.get(debugClass + ".java");
 		try {
 			List<String> programLines = Files.readAllLines(path);
 			int lineNr = 0;
 			for (String line : programLines) {
 				lineNr++;
-				if (currLoc != null && lineNr == currLoc.lineNumber()) {
-					System.out.print(">");
-				} else {
-					System.out.print(" ");
-				}
-				System.out.printf("%3d", lineNr);
-				System.out.print(" ");
-				if (breakpoints.contains(lineNr)) {
-					System.out.print("o");
-				} else {
-					System.out.print(" ");
-				}
-				System.out.print(" ");
+				System.out.print(linePrefix.apply(lineNr));
 				System.out.println(line);
 			}
 			return Response.OK;
@@ -119,6 +128,23 @@ public class Util {
 		}
 	}
 
+	static Integer parseNumber(String arg, int min, int max, String description) {
+		try {
+			int n = Integer.parseInt(arg);
+			if (n >= min && n <= max) {
+				return n;
+			}
+		} catch (Exception e) {
+			// reported below
+		}
+		System.out.println("Could not convert '" + arg + "' to " + description + ".");
+		return null;
+	}
+
+	public static int compileProgram(String toCompile) throws IOException, InterruptedException {
+		return new ProcessBuilder("javac", "-g", toCompile + ".java").inheritIO().start().waitFor();
+	}
+
 	public static Response printHelp() {
 		String helpFileName = "Commands.txt";
 		Path helpFile = Paths.get(helpFileName);
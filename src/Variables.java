@@ -1,6 +1,7 @@
 import com.sun.jdi.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class Variables {
@@ -50,16 +51,12 @@ public class Variables {
 	}
 
 
-	public static Response printValueByName(ThreadReference thread, String[] args) throws IncompatibleThreadStateException, AbsentInformationException, ClassNotLoadedException {
+	public static Response printValueByName(ThreadReference thread, String[] args, Map<Long, ObjectReference> objectHandles) throws IncompatibleThreadStateException, AbsentInformationException, ClassNotLoadedException {
 		if (args == null || args.length > 2) {
 			System.out.println("Invalid number of arguments.\nUsage: print <var> [<idx>]");
 			return Response.NOK;
 		}
 		String varName = args[0];
-		if (thread.frameCount() == 0) {
-			System.out.println("No frames initialized yet");
-			return Response.NOK;
-		}
 		Integer index = null;
 		if (args.length == 2) {
 			try {
@@ -69,6 +66,17 @@ public class Variables {
 				return Response.NOK;
 			}
 		}
+		if (Heap.isHandle(varName)) {
+			ObjectReference obj = Heap.getHandle(varName, objectHandles);
+			if (obj == null) {
+				return Response.NOK;
+			}
+			return printHandleValue(obj, varName, thread, index);
+		}
+		if (thread.frameCount() == 0) {
+			System.out.println("No frames initialized yet");
+			return Response.NOK;
+		}
 		StackFrame frame = thread.frame(0);
 		List<LocalVariable> vars = frame.visibleVariables();
 		Optional<LocalVariable> var = vars.stream().filter(lv -> lv.name().equals(varName)).findFirst();
@@ -89,6 +97,29 @@ public class Variables {
 		return Response.OK;
 	}
 
+	static Response printHandleValue(ObjectReference obj, String handle, ThreadReference thread, Integer idx) {
+		try {
+			if (obj instanceof ArrayReference && idx != null) {
+				ArrayReference arr = (ArrayReference) obj;
+				if (idx < 0 || idx >= arr.length()) {
+					System.out.println("Index out of range.");
+					return Response.NOK;
+				}
+				Value val = arr.getValue(idx);
+				System.out.print(handle + "[" + idx + "]" + (val != null ? ": " + val.type().name() : "") + " = ");
+				Util.printValue(val, thread);
+			} else {
+				System.out.print(handle + ": " + obj.type().name() + " = ");
+				Util.printValue(obj, thread);
+			}
+			System.out.println();
+		} catch (ObjectCollectedException e) {
+			System.out.println("Object " + handle + " has been garbage collected.");
+			return Response.NOK;
+		}
+		return Response.OK;
+	}
+
 	static void printSingleVariable(LocalVariable var, StackFrame frame, Integer idx) throws ClassNotLoadedException {
 		if (var.type() instanceof ArrayType && idx != null) {
 			ArrayReference arr = ((ArrayReference) frame.getValue(var));
@@ -132,17 +163,29 @@ public class Variables {
 		}
 	}
 
-	public static Response printObjectFieldByName(ThreadReference thread, String[] args) throws IncompatibleThreadStateException, AbsentInformationException, ClassNotLoadedException {
+	public static Response printObjectFieldByName(ThreadReference thread, String[] args, Map<Long, ObjectReference> objectHandles) throws IncompatibleThreadStateException, AbsentInformationException, ClassNotLoadedException {
 		if (args == null || args.length != 2) {
 			System.out.println("Invalid number of arguments.\nUsage: print <var> <fld>");
 			return Response.NOK;
 		}
 		String varName = args[0];
+		String fieldName = args[1];
+		if (Heap.isHandle(varName)) {
+			ObjectReference obj = Heap.getHandle(varName, objectHandles);
+			if (obj == null) {
+				return Response.NOK;
+			}
+			try {
+				return printObjectField(obj, varName, fieldName);
+			} catch (ObjectCollectedException e) {
+				System.out.println("Object " + varName + " has been garbage collected.");
+				return Response.NOK;
+			}
+		}
 		if (thread.frameCount() == 0) {
 			System.out.println("No frames initialized yet");
 			return Response.NOK;
 		}
-		String fieldName = args[1];
 		StackFrame frame = thread.frame(0);
 		List<LocalVariable> vars = frame.visibleVariables();
 		Optional<LocalVariable> var = vars.stream().filter(lv -> lv.name().equals(varName)).findFirst();
@@ -173,6 +216,10 @@ public class Variables {
 			return Response.NOK;
 		}
 		ObjectReference objRef = (ObjectReference) val;
+		if (!(objRef.referenceType() instanceof ClassType)) {
+			System.out.println(varName + " not an object with fields.");
+			return Response.NOK;
+		}
 		ClassType classType = (ClassType) objRef.referenceType();
 		Field fld = classType.fieldByName(fieldName);
 		if (fld == null) {